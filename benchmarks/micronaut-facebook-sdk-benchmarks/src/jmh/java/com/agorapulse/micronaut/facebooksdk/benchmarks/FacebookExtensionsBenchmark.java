@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.agorapulse.micronaut.facebooksdk.FacebookExtensions;
+import com.agorapulse.micronaut.facebooksdk.SafeBatchResult;
+import com.restfb.DefaultFacebookClient;
+import com.restfb.DefaultJsonMapper;
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+import com.restfb.WebRequestor;
+import com.restfb.batch.BatchRequest;
+import com.restfb.batch.BatchResponse;
+import com.restfb.types.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the chunking and mapping overhead of {@link FacebookExtensions#fetchAll(FacebookClient, List, Class, Map)}
+ * and {@link FacebookExtensions#safeBatch(FacebookClient, List)} including their parallel variants against a stub
+ * requestor answering every chunk with a canned response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FacebookExtensionsBenchmark {
+
+    private static final Pattern IDS = Pattern.compile("ids=([^&]*)");
+    private static final Pattern RELATIVE_URL = Pattern.compile("\"relative_url\"");
+
+    @Param({"20", "200"})
+    private int size;
+
+    private FacebookClient client;
+    private List<String> ids;
+    private List<BatchRequest> batchRequests;
+
+    @Setup
+    public void setup() {
+        Map<String, WebRequestor.Response> responses = new ConcurrentHashMap<>();
+
+        client = new DefaultFacebookClient(
+            "token",
+            "secret",
+            new StubWebRequestor(request -> responses.computeIfAbsent(request.getParameters(), FacebookExtensionsBenchmark::respond)),
+            new DefaultJsonMapper(),
+            Version.LATEST
+        );
+
+        ids = new ArrayList<>(size);
+        batchRequests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(String.valueOf(100_000 + i));
+            batchRequests.add(new BatchRequest.BatchRequestBuilder(String.valueOf(100_000 + i)).build());
+        }
+    }
+
+    @Benchmark
+    public Map<String, Page> fetchAll() {
+        return FacebookExtensions.fetchAll(client, ids, Page.class, Collections.singletonMap("fields", "id,name"));
+    }
+
+    @Benchmark
+    public Map<String, Page> fetchAllParallel() {
+        return FacebookExtensions.fetchAllParallel(client, ids, Page.class, Collections.singletonMap("fields", "id,name"));
+    }
+
+    @Benchmark
+    public List<BatchResponse> safeBatch() {
+        return FacebookExtensions.safeBatch(client, batchRequests);
+    }
+
+    @Benchmark
+    public SafeBatchResult safeBatchAsync() {
+        return FacebookExtensions.safeBatchAsync(client, batchRequests).join();
+    }
+
+    private static WebRequestor.Response respond(String parameters) {
+        String decoded = URLDecoder.decode(parameters, StandardCharsets.UTF_8);
+
+        Matcher ids = IDS.matcher(decoded);
+        if (ids.find()) {
+            StringBuilder body = new StringBuilder("{");
+            // restfb sends the ids as JSON array
+            for (String id : ids.group(1).replaceAll("[\\[\\]\"]", "").split(",")) {
+                if (body.length() > 1) {
+                    body.append(',');
+                }
+                body.append('"').append(id).append("\":{\"id\":\"").append(id).append("\",\"name\":\"Page ").append(id).append("\"}");
+            }
+            return new WebRequestor.Response(200, body.append('}').toString());
+        }
+
+        Matcher requests = RELATIVE_URL.matcher(decoded);
+        StringBuilder body = new StringBuilder("[");
+        while (requests.find()) {
+            if (body.length() > 1) {
+                body.append(',');
+            }
+            body.append("{\"code\":200,\"headers\":[],\"body\":\"{\\\"id\\\":\\\"1\\\"}\"}");
+        }
+        return new WebRequestor.Response(200, body.append(']').toString());
+    }
+
+}
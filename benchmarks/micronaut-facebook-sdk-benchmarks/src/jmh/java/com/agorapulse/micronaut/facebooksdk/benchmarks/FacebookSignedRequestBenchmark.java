@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.agorapulse.micronaut.facebooksdk.fsr.FacebookSignedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of the signed requests parsed per second by the current {@link FacebookSignedRequest#parse(String, String)}
+ * and by the original implementation building a new {@link javax.crypto.Mac} and splitting the request into strings
+ * for every request.
+ * <p>
+ * Run with {@code -PjmhProfilers=gc} to compare the allocation rates ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FacebookSignedRequestBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final FacebookSignedRequest REQUEST = new FacebookSignedRequest(
+        "HMAC-SHA256",
+        "AQBVYy7cHn8sJ3xPQ9a2ZbTq1r4lM0nKkXw",
+        "EAAGm0PX4ZCpsBAKZBZCp0Qz2Jk4qM9lGZBcZAr9pZAXZAmZBvZBZAOaZB",
+        "AbzF0k3JTk9qbW0aLqQzYwHh",
+        1562678752L,
+        1562671552L,
+        10218100942662490L
+    );
+
+    private String signedRequest;
+
+    @Setup
+    public void setup() {
+        signedRequest = REQUEST.generate(SECRET);
+    }
+
+    @Benchmark
+    public FacebookSignedRequest parse() {
+        return FacebookSignedRequest.parse(SECRET, signedRequest);
+    }
+
+    @Benchmark
+    public FacebookSignedRequest parseLegacy() {
+        return LegacySignedRequestParser.parse(SECRET, signedRequest);
+    }
+
+    @Benchmark
+    public String generate() {
+        return REQUEST.generate(SECRET);
+    }
+
+}
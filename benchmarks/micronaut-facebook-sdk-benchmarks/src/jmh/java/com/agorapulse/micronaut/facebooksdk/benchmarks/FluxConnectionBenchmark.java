@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.agorapulse.micronaut.facebooksdk.rx.FluxConnection;
+import com.restfb.Connection;
+import com.restfb.DefaultFacebookClient;
+import com.restfb.DefaultJsonMapper;
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+import com.restfb.WebRequestor;
+import com.restfb.types.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures paging through a connection using {@link FluxConnection} compared to iterating the restfb
+ * {@link Connection} directly. The stub requestor serves the pages of the connection from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FluxConnectionBenchmark {
+
+    private static final Pattern AFTER = Pattern.compile("after=(\\d+)");
+    private static final int PAGE_SIZE = 25;
+
+    @Param({"10"})
+    private int pages;
+
+    private FacebookClient client;
+
+    @Setup
+    public void setup() {
+        String[] responses = new String[pages];
+        for (int i = 0; i < pages; i++) {
+            responses[i] = page(i, i + 1 < pages);
+        }
+
+        client = new DefaultFacebookClient("token", "secret", new StubWebRequestor(request -> {
+            Matcher after = AFTER.matcher(request.getUrl() + '?' + request.getParameters());
+            return new WebRequestor.Response(200, responses[after.find() ? Integer.parseInt(after.group(1)) : 0]);
+        }), new DefaultJsonMapper(), Version.LATEST);
+    }
+
+    @Benchmark
+    public long connection() {
+        long count = 0;
+        for (List<Post> page : client.fetchConnection("me/feed", Post.class)) {
+            count += page.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long pagesImmediate() {
+        return FluxConnection.create(client, "me/feed", Post.class, Schedulers.immediate())
+            .map(List::size)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    @Benchmark
+    public long pagesBoundedElastic() {
+        return FluxConnection.create(client, "me/feed", Post.class, Schedulers.boundedElastic())
+            .map(List::size)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    @Benchmark
+    public long pagesPrefetch() {
+        return FluxConnection.create(client, "me/feed", Post.class, FluxConnection.DEFAULT_PREFETCH, Schedulers.boundedElastic())
+            .map(List::size)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    @Benchmark
+    public long items() {
+        return FluxConnection.items(client, "me/feed", Post.class, Schedulers.immediate()).count().block();
+    }
+
+    @Benchmark
+    public long streamItems() {
+        return FluxConnection.streamItems(client, "me/feed", Post.class, Schedulers.immediate()).count().block();
+    }
+
+    private static String page(int index, boolean hasNext) {
+        StringBuilder page = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) {
+                page.append(',');
+            }
+            String id = "123456789_" + (index * PAGE_SIZE + i);
+            page.append("{\"id\":\"").append(id).append("\",\"message\":\"Post ").append(id)
+                .append("\",\"created_time\":\"2026-01-01T00:00:00+0000\"}");
+        }
+        page.append("],\"paging\":{\"cursors\":{\"before\":\"").append(index).append("\",\"after\":\"").append(index + 1).append("\"}");
+        if (hasNext) {
+            page.append(",\"next\":\"https://graph.facebook.com/").append(Version.LATEST.getUrlElement())
+                .append("/me/feed?limit=").append(PAGE_SIZE).append("&after=").append(index + 1).append('"');
+        }
+        return page.append("}}").toString();
+    }
+
+}
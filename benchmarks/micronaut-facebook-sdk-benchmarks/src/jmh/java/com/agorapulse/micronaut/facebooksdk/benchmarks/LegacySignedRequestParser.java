@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.agorapulse.micronaut.facebooksdk.fsr.FacebookSignedRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * The original implementation of {@link FacebookSignedRequest#parse(String, String)} kept as the benchmark baseline.
+ */
+final class LegacySignedRequestParser {
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final ObjectMapper JSON = JsonMapper.builder()
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+
+    private LegacySignedRequestParser() {
+    }
+
+    static FacebookSignedRequest parse(String appSecret, String signature)  {
+        String[] signedRequestParts = signature.trim().split("\\.");
+
+        if (signedRequestParts.length != 2) {
+            throw new IllegalArgumentException("Invalid Signed Request: " + signature);
+        }
+
+        String encodedSignature = decodeUrlSafe(signedRequestParts[0]);
+        String encodedParameters = decodeUrlSafe(signedRequestParts[1]);
+
+        Mac hmacSha256 = buildMac(appSecret);
+
+        byte[] expectedSignature = hmacSha256.doFinal(encodedParameters.getBytes());
+
+        Base64.Decoder decoder = Base64.getDecoder();
+
+        if (!Arrays.equals(expectedSignature, decoder.decode(encodedSignature))) {
+            throw new IllegalArgumentException("Invalid signed request");
+        }
+
+        try {
+            return JSON.readValue(decoder.decode(encodedParameters), FacebookSignedRequest.class);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Cannot decode signature", e);
+        }
+    }
+
+    private static Mac buildMac(String appSecret) {
+        try {
+            Mac hmacSha256 = Mac.getInstance(HMAC_SHA_256);
+            hmacSha256.init(new SecretKeySpec(appSecret.getBytes(), HMAC_SHA_256));
+            return hmacSha256;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalArgumentException("Cannot build Mac for application secret", e);
+        }
+    }
+
+    private static String decodeUrlSafe(String s) {
+        return s.replace('_', '/').replace('-', '+');
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.restfb.FacebookClient;
+import com.restfb.exception.FacebookException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * The original {@link java.lang.reflect.Proxy} based implementation of
+ * {@link com.agorapulse.micronaut.facebooksdk.SecretSafeFacebookClient} kept as the benchmark baseline.
+ */
+final class ProxySecretSafeFacebookClient {
+
+    private ProxySecretSafeFacebookClient() {
+    }
+
+    static FacebookClient wrap(FacebookClient delegate) {
+        return (FacebookClient) Proxy.newProxyInstance(
+                ProxySecretSafeFacebookClient.class.getClassLoader(),
+                new Class<?>[]{FacebookClient.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        throw cause != null ? stripSecrets(cause) : e;
+                    }
+                });
+    }
+
+    private static Throwable stripSecrets(Throwable thrown) {
+        if (thrown instanceof FacebookException facebookException) {
+            facebookException.withInfoData((FacebookException.InfoData) null);
+        }
+        return thrown;
+    }
+}
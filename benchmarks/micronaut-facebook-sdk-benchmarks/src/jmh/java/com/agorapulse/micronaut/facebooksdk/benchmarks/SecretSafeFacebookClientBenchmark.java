@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.agorapulse.micronaut.facebooksdk.SecretSafeFacebookClient;
+import com.restfb.DefaultFacebookClient;
+import com.restfb.DefaultJsonMapper;
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+import com.restfb.types.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dispatch overhead of the delegating {@link SecretSafeFacebookClient} with the original reflective
+ * proxy for {@link FacebookClient#fetchObject(String, Class, com.restfb.Parameter...)} against a stub requestor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecretSafeFacebookClientBenchmark {
+
+    private static final String PAGE = "{\"id\":\"123456789\",\"name\":\"Agorapulse\",\"fan_count\":42}";
+
+    private FacebookClient raw;
+    private FacebookClient proxy;
+    private FacebookClient delegate;
+
+    @Setup
+    public void setup() {
+        raw = new DefaultFacebookClient("token", "secret", new StubWebRequestor(PAGE), new DefaultJsonMapper(), Version.LATEST);
+        proxy = ProxySecretSafeFacebookClient.wrap(raw);
+        delegate = SecretSafeFacebookClient.wrap(raw);
+    }
+
+    @Benchmark
+    public Page fetchObjectRaw() {
+        return raw.fetchObject("123456789", Page.class);
+    }
+
+    @Benchmark
+    public Page fetchObjectProxy() {
+        return proxy.fetchObject("123456789", Page.class);
+    }
+
+    @Benchmark
+    public Page fetchObjectDelegate() {
+        return delegate.fetchObject("123456789", Page.class);
+    }
+
+}
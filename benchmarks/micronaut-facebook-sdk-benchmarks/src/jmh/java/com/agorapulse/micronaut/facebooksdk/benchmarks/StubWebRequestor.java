@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.benchmarks;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.WebRequestor;
+
+import java.util.function.Function;
+
+/**
+ * {@link WebRequestor} answering every request with a canned response without touching the network.
+ */
+public class StubWebRequestor implements WebRequestor {
+
+    private final Function<Request, Response> responses;
+
+    public StubWebRequestor(String body) {
+        this(request -> new Response(200, body));
+    }
+
+    public StubWebRequestor(Function<Request, Response> responses) {
+        this.responses = responses;
+    }
+
+    @Override
+    public Response executeGet(Request request) {
+        return responses.apply(request);
+    }
+
+    @Override
+    public Response executePost(Request request) {
+        return responses.apply(request);
+    }
+
+    @Override
+    public Response executeDelete(Request request) {
+        return responses.apply(request);
+    }
+
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return null;
+    }
+
+}
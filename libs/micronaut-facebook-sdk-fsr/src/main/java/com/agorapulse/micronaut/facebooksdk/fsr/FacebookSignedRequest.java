@@ -22,44 +22,80 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.json.JsonMapper;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.beans.ConstructorProperties;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.MessageDigest;
 import java.util.*;
 
 public class FacebookSignedRequest {
 
-    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final int[] BASE64_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = i;
+        }
+        BASE64_VALUES['-'] = 62;
+        BASE64_VALUES['_'] = 63;
+    }
+
     private static final ObjectMapper JSON = JsonMapper.builder()
         .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
         .build();
 
     public static FacebookSignedRequest parse(String appSecret, String signature)  {
-        String[] signedRequestParts = signature.trim().split("\\.");
+        return parse(SignedRequestMac.forSecret(appSecret), signature);
+    }
 
-        if (signedRequestParts.length != 2) {
-            throw new IllegalArgumentException("Invalid Signed Request: " + signature);
+    /**
+     * Verifies and decodes the signed request without any intermediate strings.
+     * <p>
+     * The signature is computed over the standard Base64 alphabet form of the payload to stay compatible with
+     * {@link #generate(String)}, the translated payload is then decoded directly into the target array.
+     */
+    static FacebookSignedRequest parse(SignedRequestMac mac, String signature) {
+        int begin = 0;
+        int end = signature.length();
+
+        // same as String#trim but without creating a new string
+        while (begin < end && signature.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && signature.charAt(end - 1) <= ' ') {
+            end--;
         }
 
-        String encodedSignature = decodeUrlSafe(signedRequestParts[0]);
-        String encodedParameters = decodeUrlSafe(signedRequestParts[1]);
-
-        // Validate signature
-        Mac hmacSha256 = buildMac(appSecret);
+        int dot = signature.indexOf('.', begin);
+        if (dot <= begin || dot >= end - 1 || signature.lastIndexOf('.', end - 1) != dot) {
+            throw new IllegalArgumentException("Invalid Signed Request: " + signature);
+        }
 
-        byte[] expectedSignature = hmacSha256.doFinal(encodedParameters.getBytes());
+        byte[] actualSignature = new byte[SignedRequestMac.LENGTH];
+        if (decodeBase64(signature, begin, dot, actualSignature) != SignedRequestMac.LENGTH) {
+            throw new IllegalArgumentException("Invalid signed request");
+        }
 
-        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] encodedPayload = new byte[end - dot - 1];
+        for (int i = dot + 1; i < end; i++) {
+            char c = signature.charAt(i);
+            encodedPayload[i - dot - 1] = (byte) (c == '-' ? '+' : c == '_' ? '/' : c);
+        }
 
-        if (!Arrays.equals(expectedSignature, decoder.decode(encodedSignature))) {
+        if (!MessageDigest.isEqual(mac.sign(encodedPayload), actualSignature)) {
             throw new IllegalArgumentException("Invalid signed request");
         }
 
-        // Decode parameters
+        byte[] payload = new byte[encodedPayload.length * 3 / 4];
+        int payloadLength;
         try {
-            return JSON.readValue(decoder.decode(encodedParameters), FacebookSignedRequest.class);
+            payloadLength = Base64.getDecoder().decode(encodedPayload, payload);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid signed request", e);
+        }
+
+        try {
+            return JSON.readValue(payload, 0, payloadLength, FacebookSignedRequest.class);
         } catch (JacksonException e) {
             throw new IllegalArgumentException("Cannot decode signature", e);
         }
@@ -116,11 +152,10 @@ public class FacebookSignedRequest {
 
     public String generate(String appSecret) {
         try {
-            Mac hmacSha256 = buildMac(appSecret);
             Base64.Encoder encoder = Base64.getEncoder();
 
             String encodedParameters = encoder.encodeToString(JSON.writeValueAsBytes(this));
-            String encodedSignature = encoder.encodeToString(hmacSha256.doFinal(encodedParameters.getBytes()));
+            String encodedSignature = encoder.encodeToString(SignedRequestMac.forSecret(appSecret).sign(encodedParameters.getBytes()));
 
             return encodeAsUrlSafe(encodedSignature) + "." + encodeAsUrlSafe(encodedParameters);
         } catch (JacksonException e) {
@@ -149,22 +184,49 @@ public class FacebookSignedRequest {
         return Objects.hash(algorithm, code, oauthToken, tokenForBusiness, expires, issuedAt, userId);
     }
 
-    private static Mac buildMac(String appSecret) {
-        try {
-            Mac hmacSha256 = Mac.getInstance(HMAC_SHA_256);
-            hmacSha256.init(new SecretKeySpec(appSecret.getBytes(), HMAC_SHA_256));
-            return hmacSha256;
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new IllegalArgumentException("Cannot build Mac for application secret", e);
+    /**
+     * Decodes Base64 characters of both the standard and the URL safe alphabet with optional padding.
+     *
+     * @return the number of the decoded bytes
+     */
+    private static int decodeBase64(String source, int from, int to, byte[] target) {
+        while (to > from && source.charAt(to - 1) == '=') {
+            to--;
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid signed request");
+            }
+
+            bits = bits << 6 | value;
+            bitCount += 6;
+
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (position == target.length) {
+                    throw new IllegalArgumentException("Invalid signed request");
+                }
+                target[position++] = (byte) (bits >> bitCount);
+            }
         }
+
+        if (bitCount >= 6) {
+            // single dangling character
+            throw new IllegalArgumentException("Invalid signed request");
+        }
+
+        return position;
     }
 
     private static String encodeAsUrlSafe(String s) {
         return s.replace('/', '_').replace('+', '-');
     }
 
-    private static String decodeUrlSafe(String s) {
-        return s.replace('_', '/').replace('-', '+');
-    }
-
 }
@@ -17,31 +17,86 @@
  */
 package com.agorapulse.micronaut.facebooksdk.fsr;
 
+import com.agorapulse.micronaut.facebooksdk.AbstractFacebookApplicationConfiguration;
 import com.agorapulse.micronaut.facebooksdk.FacebookApplication;
 import com.agorapulse.micronaut.facebooksdk.FacebookApplicationConfiguration;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.bind.RequestBinderRegistry;
+import io.micronaut.http.bind.binders.PendingRequestBindingResult;
 import io.micronaut.http.bind.binders.TypedRequestArgumentBinder;
+import io.micronaut.http.cookie.Cookie;
 
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Optional.of;
 
 @Singleton
 public class FacebookSignedRequestBinder implements TypedRequestArgumentBinder<FacebookSignedRequest> {
 
+    /**
+     * Name of the request attribute containing the ID of the application which signed the request.
+     * <p>
+     * Only used if {@code facebook.sdk.fsr.multi-app} is enabled.
+     */
+    public static final String APPLICATION_ID_ATTRIBUTE = "facebook.sdk.fsr.app-id";
+
     private static final String SIGNED_REQUEST_PARAMETER_NAME = "signed_request";
     private static final String COOKIE_PREFIX = "fbsr_";
+    private static final Argument<String> SIGNED_REQUEST_ARGUMENT = SignedRequestFormField.argument().orElse(null);
 
-    private final FacebookApplication application;
     private final FacebookApplicationConfiguration configuration;
+    private final SignedRequestMac defaultMac;
+    private final SignedRequestSecrets secrets;
+    private final SignedRequestCache cache;
+    private final boolean cookieFirst;
+    private final BeanProvider<RequestBinderRegistry> binderRegistry;
+
+    private volatile Optional<ArgumentBinder<String, HttpRequest<?>>> formFieldBinder;
 
+    /**
+     * @param application   ignored, the signed requests are verified using the secret from the configuration
+     * @param configuration the default application configuration
+     * @deprecated use {@link #FacebookSignedRequestBinder(FacebookApplicationConfiguration, List, FacebookSignedRequestConfiguration, BeanProvider)}
+     */
+    @Deprecated
     public FacebookSignedRequestBinder(FacebookApplication application, FacebookApplicationConfiguration configuration) {
-        this.application = application;
+        this(configuration, Collections.singletonList(configuration), new FacebookSignedRequestConfiguration(), null);
+    }
+
+    /**
+     * @param configuration              the default application configuration, if any
+     * @param configurations             all the application configurations, only used in the multi-app mode
+     * @param signedRequestConfiguration the signed request configuration
+     * @param binderRegistry             the registry providing the body binder used to read the form field in the streaming mode
+     */
+    @Inject
+    public FacebookSignedRequestBinder(
+        @Nullable FacebookApplicationConfiguration configuration,
+        List<AbstractFacebookApplicationConfiguration> configurations,
+        FacebookSignedRequestConfiguration signedRequestConfiguration,
+        @Nullable BeanProvider<RequestBinderRegistry> binderRegistry
+    ) {
         this.configuration = configuration;
+        this.defaultMac = configuration == null || configuration.getSecret() == null ? null : SignedRequestMac.forSecret(configuration.getSecret());
+        this.secrets = signedRequestConfiguration.isMultiApp() ? new SignedRequestSecrets(defaultFirst(configuration, configurations)) : null;
+        this.cache = signedRequestConfiguration.getCacheSize() > 0
+            ? new SignedRequestCache(signedRequestConfiguration.getCacheSize(), signedRequestConfiguration.getCacheMaxAge())
+            : null;
+        this.cookieFirst = signedRequestConfiguration.isCookieFirst();
+        this.binderRegistry = signedRequestConfiguration.isStreamingForm() ? binderRegistry : null;
     }
 
     @Override
@@ -51,11 +106,31 @@ public class FacebookSignedRequestBinder implements TypedRequestArgumentBinder<F
 
     @Override
     public BindingResult<FacebookSignedRequest> bind(ArgumentConversionContext<FacebookSignedRequest> context, HttpRequest<?> source) {
-        FacebookApplicationConfiguration conf = application.getConfiguration();
+        Optional<Object> applicationId = secrets == null ? Optional.empty() : source.getAttribute(APPLICATION_ID_ATTRIBUTE);
+        SignedRequestMac mac = applicationId.map(id -> secrets.forApplication(id.toString())).orElse(defaultMac);
+        Supplier<Optional<FacebookSignedRequest>> fromCookie = fromCookie(source, applicationId, mac);
+
+        if (mac == null) {
+            // unknown application, only the cookie can tell which one signed the request
+            return applicationId.isPresent() ? BindingResult.unsatisfied() : fromCookie::get;
+        }
+
+        if (cookieFirst) {
+            Optional<FacebookSignedRequest> cookieRequest = fromCookie.get();
+            if (cookieRequest.isPresent()) {
+                return () -> cookieRequest;
+            }
+            fromCookie = Optional::empty;
+        }
 
         Optional<String> requestParameter = source.getParameters().get(SIGNED_REQUEST_PARAMETER_NAME, String.class);
         if (requestParameter.isPresent()) {
-            return () -> of(FacebookSignedRequest.parse(configuration.getSecret(), requestParameter.get()));
+            return () -> of(parse(mac, requestParameter.get()));
+        }
+
+        ArgumentBinder<String, HttpRequest<?>> formFieldBinder = getFormFieldBinder();
+        if (formFieldBinder != null) {
+            return new FormFieldBindingResult(formFieldBinder.bind(ConversionContext.of(SIGNED_REQUEST_ARGUMENT), source), mac, fromCookie);
         }
 
         Optional<?> body = source.getBody();
@@ -63,10 +138,100 @@ public class FacebookSignedRequestBinder implements TypedRequestArgumentBinder<F
             Map params = (Map) body.get();
             Object bodyParameter = params.get(SIGNED_REQUEST_PARAMETER_NAME);
             if (bodyParameter != null) {
-                return () -> of(FacebookSignedRequest.parse(configuration.getSecret(), bodyParameter.toString()));
+                return () -> of(parse(mac, bodyParameter.toString()));
+            }
+        }
+
+        return fromCookie::get;
+    }
+
+    private Supplier<Optional<FacebookSignedRequest>> fromCookie(HttpRequest<?> source, Optional<Object> applicationId, SignedRequestMac mac) {
+        if (secrets != null && applicationId.isEmpty()) {
+            return () -> findInCookies(source);
+        }
+        if (mac == null) {
+            return Optional::empty;
+        }
+        String applicationIdString = applicationId.map(Object::toString).orElseGet(() -> String.valueOf(configuration.getId()));
+        return () -> source.getCookies().get(COOKIE_PREFIX + applicationIdString, String.class).map(sr -> parse(mac, sr));
+    }
+
+    private ArgumentBinder<String, HttpRequest<?>> getFormFieldBinder() {
+        if (binderRegistry == null || SIGNED_REQUEST_ARGUMENT == null) {
+            return null;
+        }
+        Optional<ArgumentBinder<String, HttpRequest<?>>> binder = formFieldBinder;
+        if (binder == null) {
+            binder = binderRegistry.get().findArgumentBinder(SIGNED_REQUEST_ARGUMENT);
+            formFieldBinder = binder;
+        }
+        return binder.orElse(null);
+    }
+
+    private Optional<FacebookSignedRequest> findInCookies(HttpRequest<?> source) {
+        if (secrets == null) {
+            // multi-app mode disabled
+            return Optional.empty();
+        }
+        for (Cookie cookie : source.getCookies().getAll()) {
+            String name = cookie.getName();
+            if (name.startsWith(COOKIE_PREFIX)) {
+                SignedRequestMac mac = secrets.forApplication(name.substring(COOKIE_PREFIX.length()));
+                if (mac != null) {
+                    return of(parse(mac, cookie.getValue()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private FacebookSignedRequest parse(SignedRequestMac mac, String signedRequest) {
+        if (cache == null) {
+            return FacebookSignedRequest.parse(mac, signedRequest);
+        }
+        return cache.get(mac, signedRequest);
+    }
+
+    private static List<AbstractFacebookApplicationConfiguration> defaultFirst(
+        FacebookApplicationConfiguration configuration,
+        List<AbstractFacebookApplicationConfiguration> configurations
+    ) {
+        List<AbstractFacebookApplicationConfiguration> ordered = new ArrayList<>(configurations.size() + 1);
+        if (configuration != null) {
+            ordered.add(configuration);
+        }
+        ordered.addAll(configurations);
+        return ordered;
+    }
+
+    /**
+     * Result of binding the {@code signed_request} form field which may still be waiting for the body.
+     */
+    private final class FormFieldBindingResult implements PendingRequestBindingResult<FacebookSignedRequest> {
+
+        private final BindingResult<String> field;
+        private final SignedRequestMac mac;
+        private final Supplier<Optional<FacebookSignedRequest>> fallback;
+
+        FormFieldBindingResult(BindingResult<String> field, SignedRequestMac mac, Supplier<Optional<FacebookSignedRequest>> fallback) {
+            this.field = field;
+            this.mac = mac;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public boolean isPending() {
+            return field instanceof PendingRequestBindingResult<String> pending && pending.isPending();
+        }
+
+        @Override
+        public Optional<FacebookSignedRequest> getValue() {
+            Optional<String> value = field.isSatisfied() ? field.getValue() : Optional.empty();
+            if (value.isPresent() && !value.get().isEmpty()) {
+                return of(parse(mac, value.get()));
             }
+            return fallback.get();
         }
 
-        return () -> source.getCookies().get(COOKIE_PREFIX + conf.getId(), String.class).map(sr -> FacebookSignedRequest.parse(conf.getSecret(), sr));
     }
 }
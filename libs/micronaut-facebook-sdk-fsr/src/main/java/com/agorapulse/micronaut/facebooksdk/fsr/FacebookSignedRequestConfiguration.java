@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link FacebookSignedRequestBinder}.
+ */
+@ConfigurationProperties("facebook.sdk.fsr")
+public class FacebookSignedRequestConfiguration {
+
+    private int cacheSize;
+
+    private Duration cacheMaxAge = Duration.ofHours(1);
+
+    private boolean multiApp;
+
+    private boolean cookieFirst;
+
+    private boolean streamingForm;
+
+    /**
+     * @return the maximum number of the verified signed requests kept by the binder, {@code 0} disables the cache
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * @return the time after the {@code issued_at} when the signed request without {@code expires} is evicted from the cache
+     */
+    public Duration getCacheMaxAge() {
+        return cacheMaxAge;
+    }
+
+    public void setCacheMaxAge(Duration cacheMaxAge) {
+        this.cacheMaxAge = cacheMaxAge;
+    }
+
+    /**
+     * @return whether the signed requests of all the configured applications are accepted, not only the default one
+     */
+    public boolean isMultiApp() {
+        return multiApp;
+    }
+
+    public void setMultiApp(boolean multiApp) {
+        this.multiApp = multiApp;
+    }
+
+    /**
+     * @return whether the {@code fbsr_<app id>} cookie is checked before the {@code signed_request} parameter and the body
+     */
+    public boolean isCookieFirst() {
+        return cookieFirst;
+    }
+
+    public void setCookieFirst(boolean cookieFirst) {
+        this.cookieFirst = cookieFirst;
+    }
+
+    /**
+     * @return whether the {@code signed_request} form field is read using the streaming form decoding of the server instead of the fully converted body
+     */
+    public boolean isStreamingForm() {
+        return streamingForm;
+    }
+
+    public void setStreamingForm(boolean streamingForm) {
+        this.streamingForm = streamingForm;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookSignedRequestConfiguration[cacheSize:" + cacheSize + ", cacheMaxAge:" + cacheMaxAge + ", multiApp:" + multiApp
+            + ", cookieFirst:" + cookieFirst + ", streamingForm:" + streamingForm + "]";
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of the verified signed requests.
+ * <p>
+ * The entries are evicted at the {@code expires} horizon of the signed request or after the maximum age since
+ * {@code issued_at} if the request does not expire. Requests without any of these are never cached.
+ */
+final class SignedRequestCache {
+
+    private final int maximumSize;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+
+    SignedRequestCache(int maximumSize, Duration maxAge) {
+        this(maximumSize, maxAge, Clock.systemUTC());
+    }
+
+    SignedRequestCache(int maximumSize, Duration maxAge, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > SignedRequestCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached signed request or verifies and parses it.
+     *
+     * @param mac           the prepared MAC of the application secret
+     * @param signedRequest the raw signed request
+     * @return the verified signed request
+     * @throws IllegalArgumentException if the signed request is not valid
+     */
+    FacebookSignedRequest get(SignedRequestMac mac, String signedRequest) {
+        Key key = new Key(mac, signedRequest);
+        long now = clock.millis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.evictAt > now) {
+                    return entry.request;
+                }
+                entries.remove(key);
+            }
+        }
+
+        FacebookSignedRequest request = FacebookSignedRequest.parse(mac, signedRequest);
+        long evictAt = evictAt(request);
+
+        if (evictAt > now) {
+            synchronized (entries) {
+                entries.put(key, new Entry(request, evictAt));
+            }
+        }
+
+        return request;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long evictAt(FacebookSignedRequest request) {
+        if (request.getExpires() != null && request.getExpires() > 0) {
+            return request.getExpires() * 1000;
+        }
+        if (request.getIssuedAt() != null && request.getIssuedAt() > 0) {
+            return request.getIssuedAt() * 1000 + maxAgeMillis;
+        }
+        return Long.MIN_VALUE;
+    }
+
+    private static final class Key {
+
+        private final SignedRequestMac mac;
+        private final String signedRequest;
+
+        Key(SignedRequestMac mac, String signedRequest) {
+            this.mac = mac;
+            this.signedRequest = signedRequest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return mac == other.mac && signedRequest.equals(other.signedRequest);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mac) + Objects.hashCode(signedRequest);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final FacebookSignedRequest request;
+        private final long evictAt;
+
+        Entry(FacebookSignedRequest request, long evictAt) {
+            this.request = request;
+            this.evictAt = evictAt;
+        }
+
+    }
+
+}
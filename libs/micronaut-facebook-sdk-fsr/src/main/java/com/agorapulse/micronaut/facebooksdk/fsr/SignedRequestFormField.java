@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.annotation.Body;
+
+import java.util.Optional;
+
+/**
+ * Holder of the {@code signed_request} form field declaration.
+ * <p>
+ * The annotation metadata of the constructor argument is generated at the compile time and used to look up the body
+ * binder reading the form field in the streaming mode.
+ */
+@Introspected
+final class SignedRequestFormField {
+
+    private final String signedRequest;
+
+    SignedRequestFormField(@Body("signed_request") String signedRequest) {
+        this.signedRequest = signedRequest;
+    }
+
+    String getSignedRequest() {
+        return signedRequest;
+    }
+
+    /**
+     * @return the argument representing the {@code signed_request} form field or empty if the introspection is not available
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<Argument<String>> argument() {
+        return BeanIntrospector.SHARED.findIntrospection(SignedRequestFormField.class)
+            .map(introspection -> (Argument<String>) introspection.getConstructorArguments()[0]);
+    }
+
+}
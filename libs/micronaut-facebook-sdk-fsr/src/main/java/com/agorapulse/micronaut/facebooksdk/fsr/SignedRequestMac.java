@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HMAC-SHA256 prepared for a single application secret.
+ * <p>
+ * The provider lookup and the key initialization only happen once per secret. Every signature is computed using
+ * a clone of the initialized prototype so the instances can be safely shared between threads.
+ */
+final class SignedRequestMac {
+
+    static final int LENGTH = 32;
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final int MAX_CACHED_SECRETS = 256;
+    private static final Map<String, SignedRequestMac> CACHE = new ConcurrentHashMap<>();
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final boolean cloneable;
+
+    SignedRequestMac(String appSecret) {
+        if (appSecret == null || appSecret.isEmpty()) {
+            throw new IllegalArgumentException("Cannot build Mac for empty application secret");
+        }
+        this.key = new SecretKeySpec(appSecret.getBytes(StandardCharsets.UTF_8), HMAC_SHA_256);
+        this.prototype = create(key);
+        this.cloneable = isCloneable(prototype);
+    }
+
+    /**
+     * @param appSecret the application secret
+     * @return the shared instance for given secret
+     */
+    static SignedRequestMac forSecret(String appSecret) {
+        if (appSecret == null) {
+            return new SignedRequestMac(null);
+        }
+        SignedRequestMac mac = CACHE.get(appSecret);
+        if (mac != null) {
+            return mac;
+        }
+        if (CACHE.size() >= MAX_CACHED_SECRETS) {
+            // the secrets usually come from the configuration, this only protects against unbounded growth
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(appSecret, SignedRequestMac::new);
+    }
+
+    /**
+     * @return new initialized {@link Mac} instance which is not shared with any other thread
+     */
+    Mac newMac() {
+        if (!cloneable) {
+            return create(key);
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return create(key);
+        }
+    }
+
+    byte[] sign(byte[] input) {
+        return newMac().doFinal(input);
+    }
+
+    private static Mac create(SecretKeySpec key) {
+        try {
+            Mac hmacSha256 = Mac.getInstance(HMAC_SHA_256);
+            hmacSha256.init(key);
+            return hmacSha256;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalArgumentException("Cannot build Mac for application secret", e);
+        }
+    }
+
+    private static boolean isCloneable(Mac mac) {
+        try {
+            mac.clone();
+            return true;
+        } catch (CloneNotSupportedException e) {
+            return false;
+        }
+    }
+
+}
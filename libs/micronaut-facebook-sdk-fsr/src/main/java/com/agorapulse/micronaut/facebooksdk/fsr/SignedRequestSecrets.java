@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr;
+
+import com.agorapulse.micronaut.facebooksdk.AbstractFacebookApplicationConfiguration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the prepared MACs of the application secrets by the application ID.
+ * <p>
+ * The first configuration wins if there are more configurations with the same application ID.
+ */
+final class SignedRequestSecrets {
+
+    private final Map<Long, SignedRequestMac> macs = new HashMap<>();
+
+    SignedRequestSecrets(Collection<? extends AbstractFacebookApplicationConfiguration> configurations) {
+        for (AbstractFacebookApplicationConfiguration configuration : configurations) {
+            if (configuration.getId() != null && configuration.getSecret() != null) {
+                macs.putIfAbsent(configuration.getId(), SignedRequestMac.forSecret(configuration.getSecret()));
+            }
+        }
+    }
+
+    /**
+     * @param applicationId the application ID
+     * @return the prepared MAC for the application or {@code null} if the application is not known
+     */
+    SignedRequestMac forApplication(Long applicationId) {
+        return applicationId == null ? null : macs.get(applicationId);
+    }
+
+    /**
+     * @param applicationId the application ID as string, e.g. from the cookie name
+     * @return the prepared MAC for the application or {@code null} if the application is not known or the ID is not a number
+     */
+    SignedRequestMac forApplication(String applicationId) {
+        if (applicationId == null || applicationId.isEmpty()) {
+            return null;
+        }
+        try {
+            return macs.get(Long.valueOf(applicationId));
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    int size() {
+        return macs.size();
+    }
+
+}
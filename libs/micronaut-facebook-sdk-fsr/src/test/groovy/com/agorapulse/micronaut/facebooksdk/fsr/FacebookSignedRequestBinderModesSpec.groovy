@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr
+
+import com.agorapulse.micronaut.facebooksdk.FacebookApplicationConfiguration
+import groovy.transform.CompileDynamic
+import io.micronaut.context.BeanProvider
+import io.micronaut.core.bind.ArgumentBinder
+import io.micronaut.core.convert.ConversionContext
+import io.micronaut.http.HttpParameters
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.bind.RequestBinderRegistry
+import io.micronaut.http.bind.binders.PendingRequestBindingResult
+import io.micronaut.http.cookie.Cookie
+import io.micronaut.http.cookie.Cookies
+import spock.lang.Specification
+
+@CompileDynamic
+class FacebookSignedRequestBinderModesSpec extends Specification {
+
+    private static final FacebookSignedRequest COOKIE_REQUEST = new FacebookSignedRequest('HMAC-SHA256', 'cookie', null, null, null, 1562671552, 1)
+    private static final FacebookSignedRequest FORM_REQUEST = new FacebookSignedRequest('HMAC-SHA256', 'form', null, null, null, 1562671552, 2)
+
+    FacebookApplicationConfiguration configuration = new FacebookApplicationConfiguration(id: 1234567890, secret: 'secret')
+    FacebookSignedRequestConfiguration signedRequestConfiguration = new FacebookSignedRequestConfiguration()
+
+    ArgumentBinder<String, HttpRequest<?>> bodyBinder = Mock()
+    RequestBinderRegistry registry = Mock {
+        findArgumentBinder(_) >> Optional.of(bodyBinder)
+    }
+
+    HttpRequest<?> request = Mock {
+        getParameters() >> Stub(HttpParameters) {
+            get('signed_request', String) >> Optional.empty()
+        }
+        getCookies() >> Stub(Cookies) {
+            get('fbsr_1234567890', String) >> Optional.of(COOKIE_REQUEST.generate('secret'))
+        }
+    }
+
+    void 'form field argument is generated at the compile time'() {
+        expect:
+            SignedRequestFormField.argument().present
+            SignedRequestFormField.argument().get().type == String
+            SignedRequestFormField.argument().get().annotationMetadata.stringValue(Body).get() == 'signed_request'
+    }
+
+    void 'cookie is checked first if configured'() {
+        given:
+            signedRequestConfiguration.cookieFirst = true
+            signedRequestConfiguration.streamingForm = true
+        when:
+            ArgumentBinder.BindingResult<FacebookSignedRequest> result = binder().bind(ConversionContext.of(FacebookSignedRequest), request)
+        then:
+            result.get() == COOKIE_REQUEST
+
+            0 * request.getParameters()
+            0 * request.getBody()
+            0 * bodyBinder.bind(*_)
+    }
+
+    void 'form field is read using the body binder'() {
+        given:
+            signedRequestConfiguration.streamingForm = true
+            boolean pending = true
+        when:
+            ArgumentBinder.BindingResult<FacebookSignedRequest> result = binder().bind(ConversionContext.of(FacebookSignedRequest), request)
+        then:
+            1 * bodyBinder.bind({ it.annotationMetadata.stringValue(Body).get() == 'signed_request' }, request) >> new PendingRequestBindingResult<String>() {
+                @Override
+                boolean isPending() {
+                    return pending
+                }
+
+                @Override
+                Optional<String> getValue() {
+                    return pending ? Optional.empty() : Optional.of(FORM_REQUEST.generate('secret'))
+                }
+            }
+            0 * request.getBody()
+
+            result instanceof PendingRequestBindingResult
+            result.pending
+
+        when:
+            pending = false
+        then:
+            !result.pending
+            result.get() == FORM_REQUEST
+    }
+
+    void 'cookie is used if the form field is missing'() {
+        given:
+            signedRequestConfiguration.streamingForm = true
+        when:
+            ArgumentBinder.BindingResult<FacebookSignedRequest> result = binder().bind(ConversionContext.of(FacebookSignedRequest), request)
+        then:
+            1 * bodyBinder.bind(_, request) >> ArgumentBinder.BindingResult.EMPTY
+
+            result.get() == COOKIE_REQUEST
+    }
+
+    void 'converted body is used by default'() {
+        when:
+            ArgumentBinder.BindingResult<FacebookSignedRequest> result = binder().bind(ConversionContext.of(FacebookSignedRequest), request)
+        then:
+            1 * request.getBody() >> Optional.of([signed_request: FORM_REQUEST.generate('secret')])
+            0 * bodyBinder.bind(*_)
+
+            result.get() == FORM_REQUEST
+    }
+
+    void 'cookies are ignored without any application configured'() {
+        given:
+            HttpRequest<?> cookieRequest = Stub {
+                getAttribute(FacebookSignedRequestBinder.APPLICATION_ID_ATTRIBUTE) >> Optional.empty()
+                getCookies() >> Stub(Cookies) {
+                    getAll() >> [Cookie.of('fbsr_1234567890', COOKIE_REQUEST.generate('secret'))]
+                    get(_, String) >> Optional.empty()
+                }
+            }
+        when:
+            ArgumentBinder.BindingResult<FacebookSignedRequest> result = new FacebookSignedRequestBinder(null, [], signedRequestConfiguration, null)
+                .bind(ConversionContext.of(FacebookSignedRequest), cookieRequest)
+        then:
+            !result.value.present
+        where:
+            multiApp << [false, true]
+            signedRequestConfiguration = new FacebookSignedRequestConfiguration(multiApp: multiApp)
+    }
+
+    private FacebookSignedRequestBinder binder() {
+        return new FacebookSignedRequestBinder(configuration, [configuration], signedRequestConfiguration, Stub(BeanProvider) {
+            get() >> registry
+        })
+    }
+
+}
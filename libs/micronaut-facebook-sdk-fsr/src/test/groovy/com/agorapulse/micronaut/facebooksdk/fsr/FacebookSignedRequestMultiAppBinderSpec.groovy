@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr
+
+import com.agorapulse.gru.Gru
+import groovy.transform.CompileDynamic
+import groovy.transform.CompileStatic
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+@MicronautTest
+@CompileDynamic
+@Property(name = 'facebook.sdk.app.id', value = '1234567890')
+@Property(name = 'facebook.sdk.app.secret', value = 'secret')
+@Property(name = 'facebook.sdk.apps.foo.id', value = '111')
+@Property(name = 'facebook.sdk.apps.foo.secret', value = 'foo-secret')
+@Property(name = 'facebook.sdk.apps.bar.id', value = '222')
+@Property(name = 'facebook.sdk.apps.bar.secret', value = 'bar-secret')
+@Property(name = 'facebook.sdk.fsr.multi-app', value = 'true')
+class FacebookSignedRequestMultiAppBinderSpec extends Specification {
+
+    @AutoCleanup @Inject Gru gru
+
+    void 'access with cookie of #cookieName'() {
+        expect:
+            gru.test {
+                post '/test/fbsr', {
+                    cookie cookieName, FacebookSignedRequestSpec.TEST_REQUEST.generate(secret)
+                }
+                expect {
+                    text inline(FacebookSignedRequestSpec.TEST_REQUEST.userId.toString())
+                }
+            }
+        where:
+            cookieName        | secret
+            'fbsr_1234567890' | 'secret'
+            'fbsr_111'        | 'foo-secret'
+            'fbsr_222'        | 'bar-secret'
+    }
+
+    void 'cookie of unknown application is ignored'() {
+        expect:
+            gru.test {
+                post '/test/fbsr', {
+                    cookie 'fbsr_333', FacebookSignedRequestSpec.TEST_REQUEST.generate('secret')
+                }
+                expect {
+                    text inline('nothing')
+                }
+            }
+    }
+
+    void 'application is selected by the request attribute'() {
+        expect:
+            gru.test {
+                post '/test/fbsr', {
+                    headers(ApplicationIdFilter.HEADER_NAME, '222')
+                    cookie 'fbsr_222', FacebookSignedRequestSpec.TEST_REQUEST.generate('bar-secret')
+                }
+                expect {
+                    text inline(FacebookSignedRequestSpec.TEST_REQUEST.userId.toString())
+                }
+            }
+    }
+
+}
+
+@CompileStatic
+@Filter('/test/**')
+@Requires(property = 'facebook.sdk.fsr.multi-app', value = 'true')
+class ApplicationIdFilter implements HttpServerFilter {
+
+    static final String HEADER_NAME = 'X-Facebook-App-Id'
+
+    @Override
+    Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+        request.headers.get(HEADER_NAME).ifPresent { String id ->
+            request.setAttribute(FacebookSignedRequestBinder.APPLICATION_ID_ATTRIBUTE, id)
+        }
+        return chain.proceed(request)
+    }
+
+}
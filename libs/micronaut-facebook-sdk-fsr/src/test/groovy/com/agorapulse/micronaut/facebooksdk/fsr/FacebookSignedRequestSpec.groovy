@@ -41,4 +41,45 @@ class FacebookSignedRequestSpec extends Specification {
             TEST_REQUEST == FacebookSignedRequest.parse(secret, signedRequestString)
     }
 
+    void 'mac is prepared once per secret'() {
+        expect:
+            SignedRequestMac.forSecret('secret').is(SignedRequestMac.forSecret('secret'))
+            !SignedRequestMac.forSecret('secret').is(SignedRequestMac.forSecret('other'))
+            !SignedRequestMac.forSecret('secret').newMac().is(SignedRequestMac.forSecret('secret').newMac())
+            SignedRequestMac.forSecret('secret').sign('payload'.bytes) == SignedRequestMac.forSecret('secret').sign('payload'.bytes)
+    }
+
+    void 'request signed with different secret is rejected'() {
+        when:
+            FacebookSignedRequest.parse('other', TEST_REQUEST.generate('very-s€cr€t'))
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    void 'decoder handles url safe characters, padding and whitespace'() {
+        given:
+            String secret = 'very-s€cr€t'
+            // the payload contains characters which are encoded using '-' and '_' and the padding
+            FacebookSignedRequest request = new FacebookSignedRequest('HMAC-SHA256', '>>>???', '~~~', null, 1562678752, 1562671552, 1)
+            String signedRequest = request.generate(secret)
+        expect:
+            signedRequest.contains('-') || signedRequest.contains('_')
+            FacebookSignedRequest.parse(secret, signedRequest) == request
+            FacebookSignedRequest.parse(secret, "  ${signedRequest.replaceFirst('=*\\.', '.')}\n") == request
+    }
+
+    void 'malformed request #description is rejected'() {
+        when:
+            FacebookSignedRequest.parse('secret', signedRequest)
+        then:
+            thrown(IllegalArgumentException)
+        where:
+            description         | signedRequest
+            'without dot'       | TEST_REQUEST.generate('secret').replace('.', '')
+            'with two dots'     | TEST_REQUEST.generate('secret') + '.abc'
+            'with empty part'   | '.' + TEST_REQUEST.generate('secret').split('\\.')[1]
+            'with invalid char' | TEST_REQUEST.generate('secret').replaceFirst('\\.', '.*')
+            'with long sig'     | 'A' * 60 + '.' + TEST_REQUEST.generate('secret').split('\\.')[1]
+    }
+
 }
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr
+
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+
+@CompileDynamic
+class SignedRequestCacheSpec extends Specification {
+
+    private static final String SECRET = 'secret'
+    private static final long NOW = 1562671552
+
+    Clock clock = Mock {
+        millis() >> { NOW * 1000 + elapsed }
+    }
+
+    long elapsed
+
+    SignedRequestCache cache = new SignedRequestCache(2, Duration.ofMinutes(5), clock)
+    SignedRequestMac mac = SignedRequestMac.forSecret(SECRET)
+
+    void 'verified request is cached until it expires'() {
+        given:
+            String signedRequest = request(NOW + 60, NOW).generate(SECRET)
+        when:
+            FacebookSignedRequest first = cache.get(mac, signedRequest)
+            FacebookSignedRequest second = cache.get(mac, signedRequest)
+        then:
+            first.is(second)
+            cache.size() == 1
+
+        when:
+            elapsed = 60_000
+            FacebookSignedRequest third = cache.get(mac, signedRequest)
+        then:
+            third == first
+            !third.is(first)
+            cache.size() == 0
+    }
+
+    void 'request without expiration is cached for the maximum age since issued'() {
+        given:
+            String signedRequest = request(null, NOW).generate(SECRET)
+        when:
+            FacebookSignedRequest first = cache.get(mac, signedRequest)
+            elapsed = Duration.ofMinutes(4).toMillis()
+        then:
+            cache.get(mac, signedRequest).is(first)
+
+        when:
+            elapsed = Duration.ofMinutes(5).toMillis()
+        then:
+            !cache.get(mac, signedRequest).is(first)
+    }
+
+    void 'expired and timeless requests are not cached'() {
+        when:
+            cache.get(mac, request(NOW - 1, NOW - 60).generate(SECRET))
+            cache.get(mac, request(null, null).generate(SECRET))
+        then:
+            cache.size() == 0
+    }
+
+    void 'least recently used request is evicted'() {
+        given:
+            String first = request(NOW + 60, NOW).generate(SECRET)
+            String second = request(NOW + 61, NOW).generate(SECRET)
+            String third = request(NOW + 62, NOW).generate(SECRET)
+            FacebookSignedRequest firstRequest = cache.get(mac, first)
+        when:
+            cache.get(mac, second)
+            cache.get(mac, first)
+            cache.get(mac, third)
+        then:
+            cache.size() == 2
+            cache.get(mac, first).is(firstRequest)
+    }
+
+    void 'cached request is verified again with different secret'() {
+        given:
+            String signedRequest = request(NOW + 60, NOW).generate(SECRET)
+            cache.get(mac, signedRequest)
+        when:
+            cache.get(SignedRequestMac.forSecret('other'), signedRequest)
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    void 'invalid request is not cached'() {
+        when:
+            cache.get(mac, request(NOW + 60, NOW).generate('other'))
+        then:
+            thrown(IllegalArgumentException)
+            cache.size() == 0
+    }
+
+    private static FacebookSignedRequest request(Long expires, Long issuedAt) {
+        return new FacebookSignedRequest('HMAC-SHA256', 'code', 'oauth_token', null, expires, issuedAt, 1)
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.fsr
+
+import com.agorapulse.micronaut.facebooksdk.FacebookApplicationConfiguration
+import com.agorapulse.micronaut.facebooksdk.NamedFacebookApplicationConfiguration
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+@CompileDynamic
+class SignedRequestSecretsSpec extends Specification {
+
+    void 'secrets are indexed by application id'() {
+        given:
+            SignedRequestSecrets secrets = new SignedRequestSecrets([
+                new FacebookApplicationConfiguration(id: 1, secret: 'default'),
+                named('foo', 2, 'foo'),
+                named('duplicate', 1, 'other'),
+                named('incomplete', 3, null),
+            ])
+        expect:
+            secrets.size() == 2
+            secrets.forApplication(1L).is(SignedRequestMac.forSecret('default'))
+            secrets.forApplication('2').is(SignedRequestMac.forSecret('foo'))
+            secrets.forApplication(3L) == null
+            secrets.forApplication('not-a-number') == null
+            secrets.forApplication('') == null
+            secrets.forApplication((Long) null) == null
+    }
+
+    private static NamedFacebookApplicationConfiguration named(String name, Long id, String secret) {
+        NamedFacebookApplicationConfiguration configuration = new NamedFacebookApplicationConfiguration(name)
+        configuration.id = id
+        configuration.secret = secret
+        return configuration
+    }
+
+}
@@ -17,6 +17,7 @@
  */
 package com.agorapulse.micronaut.facebooksdk.mock;
 
+import com.agorapulse.micronaut.facebooksdk.AsyncFacebookClient;
 import com.agorapulse.micronaut.facebooksdk.DefaultFacebookApplication;
 import com.agorapulse.micronaut.facebooksdk.FacebookApplication;
 import com.agorapulse.micronaut.facebooksdk.FacebookApplicationConfiguration;
@@ -47,6 +48,7 @@ import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -68,6 +70,7 @@ public class TestFacebookApplication implements FacebookApplication, Closeable,
 
     private final DefaultFacebookApplication fallback;
     private final FacebookApplicationConfiguration configuration;
+    private final Semaphore asyncPermits;
 
     public TestFacebookApplication(BeanContext context) {
         FacebookApplicationConfiguration maybeConfiguration = null;
@@ -78,6 +81,9 @@ public class TestFacebookApplication implements FacebookApplication, Closeable,
         }
         this.configuration = maybeConfiguration == null ? new FacebookApplicationConfiguration() : maybeConfiguration;
         this.fallback = new DefaultFacebookApplication(this.configuration);
+        this.asyncPermits = this.configuration.getAsyncMaxConcurrency() > 0
+            ? new Semaphore(this.configuration.getAsyncMaxConcurrency(), true)
+            : null;
 
     }
 
@@ -100,6 +106,11 @@ public class TestFacebookApplication implements FacebookApplication, Closeable,
         return client;
     }
 
+    @Override
+    public AsyncFacebookClient createAsyncClient(String accessToken, String appSecret, Version apiVersion) {
+        return new AsyncFacebookClient(createClient(accessToken, appSecret, apiVersion), null, asyncPermits);
+    }
+
     public void mockApi(Consumer<Expectations> expectations) {
         if (server == null) {
             server = prepareServer();
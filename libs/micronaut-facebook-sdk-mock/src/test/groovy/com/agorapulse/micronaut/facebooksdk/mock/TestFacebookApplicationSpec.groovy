@@ -50,4 +50,10 @@ class TestFacebookApplicationSpec extends Specification {
             me.name == 'Facebook SDK'
     }
 
+    void 'async clients share the permits'() {
+        expect:
+            facebook.createAsyncClient(TestFacebookApplication.TOKEN).permits.is(facebook.createAsyncClient('other').permits)
+            facebook.createAsyncClient(TestFacebookApplication.TOKEN).permits.availablePermits() == facebook.configuration.asyncMaxConcurrency
+    }
+
 }
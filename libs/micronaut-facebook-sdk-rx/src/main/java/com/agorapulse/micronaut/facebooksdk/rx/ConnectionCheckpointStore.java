@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import java.util.Optional;
+
+/**
+ * Stores the position of the resumable connection paging, the URL of the next page to be fetched.
+ * <p>
+ * The URLs never contain the credentials such as {@code access_token}, the pages are fetched with the credentials of
+ * the client resuming the paging. The URL of the next page is saved once the publisher processing the previous page
+ * has completed, so the saved page is the first one which has not been processed yet.
+ *
+ * @see FluxConnection#resumable(com.restfb.FacebookClient, String, Class, ConnectionCheckpointStore, String, java.util.function.Function, reactor.core.scheduler.Scheduler, com.restfb.Parameter...)
+ */
+public interface ConnectionCheckpointStore {
+
+    /**
+     * @param key the key of the paging, e.g. the name of the export job
+     * @return the URL of the next page to be fetched or empty if the paging has not started yet or has been completed
+     */
+    Optional<String> load(String key);
+
+    /**
+     * Called once the publisher processing the page has completed.
+     *
+     * @param key         the key of the paging
+     * @param nextPageUrl the URL of the next page to be fetched
+     */
+    void save(String key, String nextPageUrl);
+
+    /**
+     * Called once the last page has been processed.
+     *
+     * @param key the key of the paging
+     */
+    void remove(String key);
+
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import java.util.List;
+
+/**
+ * Single page of a connection tagged with the connection it was fetched from.
+ *
+ * @param <T> the type of the items
+ * @see FluxConnection#createAll(com.restfb.FacebookClient, List, Class, int, reactor.core.scheduler.Scheduler, com.restfb.Parameter...)
+ */
+public final class ConnectionPage<T> {
+
+    private final String connection;
+    private final long index;
+    private final List<T> data;
+
+    public ConnectionPage(String connection, long index, List<T> data) {
+        this.connection = connection;
+        this.index = index;
+        this.data = data;
+    }
+
+    /**
+     * @return the name of the connection the page was fetched from, e.g. {@code "1234/posts"}
+     */
+    public String getConnection() {
+        return connection;
+    }
+
+    /**
+     * @return the index of the page within its connection starting with {@code 0}
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the items of the page
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPage[connection:'" + connection + "', index:" + index + ", items:" + data.size() + "]";
+    }
+
+}
@@ -19,11 +19,15 @@ package com.agorapulse.micronaut.facebooksdk.rx;
 
 import com.restfb.FacebookClient;
 import com.restfb.Parameter;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class FacebookFluxExtensions {
 
@@ -53,6 +57,289 @@ public class FacebookFluxExtensions {
         return FluxConnection.create(facebookClient, connection, connectionType, buildVariableArgs(parameters));
     }
 
+    /**
+     * Fetches a Graph API {@code Connection} type, mapping the result to an instance of {@code connectionType}.
+     * The pages are fetched on the given {@code scheduler}.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return An instance of type {@code connectionType} which contains the requested Connection's data.
+     */
+    public static <T> Flux<List<T>> fetchFlux(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, Scheduler scheduler) {
+        return FluxConnection.create(facebookClient, connection, connectionType, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type, mapping the result to an instance of {@code connectionType}.
+     * Up to {@code prefetch} pages are fetched ahead while the previous pages are being processed.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param prefetch       The maximum number of the pages fetched ahead.
+     * @return An instance of type {@code connectionType} which contains the requested Connection's data.
+     */
+    public static <T> Flux<List<T>> fetchFlux(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, int prefetch) {
+        return FluxConnection.create(facebookClient, connection, connectionType, prefetch, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type, mapping the result to an instance of {@code connectionType}.
+     * Up to {@code prefetch} pages are fetched ahead on the given {@code scheduler} while the previous pages are being processed.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param prefetch       The maximum number of the pages fetched ahead.
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return An instance of type {@code connectionType} which contains the requested Connection's data.
+     */
+    public static <T> Flux<List<T>> fetchFlux(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, int prefetch, Scheduler scheduler) {
+        return FluxConnection.create(facebookClient, connection, connectionType, prefetch, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type item by item, mapping each item to an instance of {@code connectionType}.
+     * The next page is only fetched when the downstream requests more items.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @return The items of the requested Connection.
+     */
+    public static <T> Flux<T> fetchFluxItems(FacebookClient facebookClient, String connection, Class<T> connectionType) {
+        return fetchFluxItems(facebookClient, connection, connectionType, Collections.emptyMap());
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type item by item, mapping each item to an instance of {@code connectionType}.
+     * The next page is only fetched when the downstream requests more items.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return The items of the requested Connection.
+     */
+    public static <T> Flux<T> fetchFluxItems(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters) {
+        return FluxConnection.items(facebookClient, connection, connectionType, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type item by item, mapping each item to an instance of {@code connectionType}.
+     * The next page is only fetched when the downstream requests more items.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return The items of the requested Connection.
+     */
+    public static <T> Flux<T> fetchFluxItems(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, Scheduler scheduler) {
+        return FluxConnection.items(facebookClient, connection, connectionType, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type item by item using the streaming page decoder, mapping each item to
+     * an instance of {@code connectionType} only when requested by the downstream.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return The items of the requested Connection.
+     * @see FluxConnection#streamItems(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public static <T> Flux<T> streamFluxItems(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters) {
+        return FluxConnection.streamItems(facebookClient, connection, connectionType, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type item by item using the streaming page decoder, mapping each item to
+     * an instance of {@code connectionType} only when requested by the downstream.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return The items of the requested Connection.
+     * @see FluxConnection#streamItems(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public static <T> Flux<T> streamFluxItems(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, Scheduler scheduler) {
+        return FluxConnection.streamItems(facebookClient, connection, connectionType, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches the pages of many Graph API {@code Connection}s, e.g. the posts of many pages, paging up to
+     * {@code concurrency} connections at the same time. Each page is tagged with the connection it was fetched from.
+     *
+     * @param <T>            Java type to map to.
+     * @param connections    The names of the connections, e.g. {@code "1234/posts"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call of every connection (optional).
+     * @param concurrency    The maximum number of the connections paged at the same time.
+     * @return The pages of all the requested Connections.
+     * @see FluxConnection#createAll(FacebookClient, List, Class, int, Scheduler, Parameter...)
+     */
+    public static <T> Flux<ConnectionPage<T>> fetchFluxAll(FacebookClient facebookClient, List<String> connections, Class<T> connectionType, Map<String, Object> parameters, int concurrency) {
+        return FluxConnection.createAll(facebookClient, connections, connectionType, concurrency, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches the pages of many Graph API {@code Connection}s, e.g. the posts of many pages, paging up to
+     * {@code concurrency} connections at the same time on the given {@code scheduler}. Each page is tagged with
+     * the connection it was fetched from.
+     *
+     * @param <T>            Java type to map to.
+     * @param connections    The names of the connections, e.g. {@code "1234/posts"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call of every connection (optional).
+     * @param concurrency    The maximum number of the connections paged at the same time.
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return The pages of all the requested Connections.
+     * @see FluxConnection#createAll(FacebookClient, List, Class, int, Scheduler, Parameter...)
+     */
+    public static <T> Flux<ConnectionPage<T>> fetchFluxAll(
+        FacebookClient facebookClient,
+        List<String> connections,
+        Class<T> connectionType,
+        Map<String, Object> parameters,
+        int concurrency,
+        Scheduler scheduler
+    ) {
+        return FluxConnection.createAll(facebookClient, connections, connectionType, concurrency, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches the pages of a Graph API {@code Connection} accepting the {@code since} and {@code until} parameters, e.g. the
+     * page insights, with the range cut into {@code slices} windows paged up to {@code concurrency} at the same time.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "1234/insights"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call of every window (optional).
+     * @param since          The beginning of the range.
+     * @param until          The end of the range.
+     * @param slices         The number of the windows.
+     * @param concurrency    The maximum number of the windows paged at the same time.
+     * @param ordered        Whether the pages should be emitted in the order of the windows.
+     * @return The pages of the requested Connection.
+     * @see FluxConnection#timeSliced(FacebookClient, String, Class, Instant, Instant, int, int, boolean, Scheduler, Parameter...)
+     */
+    public static <T> Flux<List<T>> fetchFluxSliced(
+        FacebookClient facebookClient,
+        String connection,
+        Class<T> connectionType,
+        Map<String, Object> parameters,
+        Instant since,
+        Instant until,
+        int slices,
+        int concurrency,
+        boolean ordered
+    ) {
+        return FluxConnection.timeSliced(facebookClient, connection, connectionType, since, until, slices, concurrency, ordered, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches the pages of a Graph API {@code Connection} accepting the {@code since} and {@code until} parameters, e.g. the
+     * page insights, with the range cut into {@code slices} windows paged up to {@code concurrency} at the same time on
+     * the given {@code scheduler}.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "1234/insights"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call of every window (optional).
+     * @param since          The beginning of the range.
+     * @param until          The end of the range.
+     * @param slices         The number of the windows.
+     * @param concurrency    The maximum number of the windows paged at the same time.
+     * @param ordered        Whether the pages should be emitted in the order of the windows.
+     * @param scheduler      The scheduler used to fetch the pages.
+     * @return The pages of the requested Connection.
+     * @see FluxConnection#timeSliced(FacebookClient, String, Class, Instant, Instant, int, int, boolean, Scheduler, Parameter...)
+     */
+    public static <T> Flux<List<T>> fetchFluxSliced(
+        FacebookClient facebookClient,
+        String connection,
+        Class<T> connectionType,
+        Map<String, Object> parameters,
+        Instant since,
+        Instant until,
+        int slices,
+        int concurrency,
+        boolean ordered,
+        Scheduler scheduler
+    ) {
+        return FluxConnection.timeSliced(facebookClient, connection, connectionType, since, until, slices, concurrency, ordered, scheduler, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type page by page together with the checkpoints to resume the paging.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional), ignored when resuming.
+     * @param startPageUrl   The URL of the page to resume with or {@code null} to start with the first page.
+     * @return The pages of the requested Connection with the URLs of the next pages.
+     * @see FluxConnection#resumable(FacebookClient, String, Class, String, Scheduler, Parameter...)
+     */
+    public static <T> Flux<ResumablePage<T>> fetchFluxResumable(FacebookClient facebookClient, String connection, Class<T> connectionType, Map<String, Object> parameters, String startPageUrl) {
+        return FluxConnection.resumable(facebookClient, connection, connectionType, startPageUrl, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Processes a Graph API {@code Connection} type page by page, resuming from and saving the checkpoints into the given store.
+     *
+     * @param <T>            Java type to map to.
+     * @param <R>            Type of the results of the processing.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional), ignored when resuming.
+     * @param store          The store of the checkpoints.
+     * @param key            The key of the checkpoint, e.g. the name of the export job.
+     * @param processor      The function processing the items of each page, the checkpoint is saved once its publisher completes.
+     * @return The results of the processing.
+     * @see FluxConnection#resumable(FacebookClient, String, Class, ConnectionCheckpointStore, String, Function, Scheduler, Parameter...)
+     */
+    public static <T, R> Flux<R> fetchFluxResumable(
+        FacebookClient facebookClient,
+        String connection,
+        Class<T> connectionType,
+        Map<String, Object> parameters,
+        ConnectionCheckpointStore store,
+        String key,
+        Function<List<T>, ? extends Publisher<R>> processor
+    ) {
+        return FluxConnection.resumable(facebookClient, connection, connectionType, store, key, processor, buildVariableArgs(parameters));
+    }
+
+    /**
+     * Creates the reactive facade of the client executing the calls on the {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @return The reactive facade of the client.
+     */
+    public static ReactiveFacebookClient reactive(FacebookClient facebookClient) {
+        return new ReactiveFacebookClient(facebookClient);
+    }
+
+    /**
+     * Creates the reactive facade of the client executing the calls on the given {@code scheduler}.
+     *
+     * @param scheduler The scheduler used to execute the calls.
+     * @return The reactive facade of the client.
+     */
+    public static ReactiveFacebookClient reactive(FacebookClient facebookClient, Scheduler scheduler) {
+        return new ReactiveFacebookClient(facebookClient, scheduler);
+    }
+
     private static Parameter[] buildVariableArgs(Map<String, Object> parameters) {
         return parameters
                 .entrySet()
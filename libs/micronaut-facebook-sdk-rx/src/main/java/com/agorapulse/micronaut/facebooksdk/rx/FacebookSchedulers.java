@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Schedulers used to run the blocking Graph API calls of the reactive extensions.
+ * <p>
+ * The restfb clients are blocking so the pages are never fetched on the subscribing thread, e.g. Netty event loop,
+ * but on the default scheduler which is {@link Schedulers#boundedElastic()} unless configured using the
+ * {@code facebook.sdk.rx.scheduler} property or a {@link Scheduler} bean named {@code facebook}.
+ */
+public final class FacebookSchedulers {
+
+    /**
+     * The predefined schedulers selectable using the {@code facebook.sdk.rx.scheduler} property.
+     */
+    public enum Type {
+
+        /**
+         * Reactor's {@link Schedulers#boundedElastic()} scheduler.
+         */
+        BOUNDED_ELASTIC,
+
+        /**
+         * The shared scheduler running every task on a new virtual thread, see {@link #virtualThreads()}.
+         */
+        VIRTUAL_THREADS,
+
+        /**
+         * Runs the blocking calls on the subscribing thread.
+         */
+        IMMEDIATE
+
+    }
+
+    private static final Map<Object, Scheduler> REGISTERED = new LinkedHashMap<>();
+
+    private static volatile Scheduler defaultScheduler;
+
+    private FacebookSchedulers() {
+        // disallow instantiation
+    }
+
+    /**
+     * @return the scheduler used for the blocking calls when no other scheduler is specified
+     */
+    public static Scheduler getDefault() {
+        Scheduler scheduler = defaultScheduler;
+        return scheduler == null ? Schedulers.boundedElastic() : scheduler;
+    }
+
+    /**
+     * @param type the type of the scheduler
+     * @return the predefined scheduler of the given type
+     */
+    public static Scheduler of(Type type) {
+        return switch (type) {
+            case BOUNDED_ELASTIC -> Schedulers.boundedElastic();
+            case VIRTUAL_THREADS -> virtualThreads();
+            case IMMEDIATE -> Schedulers.immediate();
+        };
+    }
+
+    /**
+     * Makes the scheduler the default one until it is unregistered by the same owner.
+     *
+     * @param owner     the owner of the registration such as the configuration of an application context
+     * @param scheduler the new default scheduler
+     * @see FacebookSchedulersConfiguration
+     */
+    static void register(Object owner, Scheduler scheduler) {
+        synchronized (REGISTERED) {
+            REGISTERED.remove(owner);
+            REGISTERED.put(owner, scheduler);
+            defaultScheduler = scheduler;
+        }
+    }
+
+    /**
+     * Removes the scheduler registered by the owner. The default scheduler becomes the one registered most recently
+     * by any other owner which has not been unregistered yet, or {@link Schedulers#boundedElastic()} if there is none,
+     * so the owners can be unregistered in any order without leaving a disposed scheduler as the default one.
+     *
+     * @param owner the owner of the registration
+     */
+    static void unregister(Object owner) {
+        synchronized (REGISTERED) {
+            if (REGISTERED.remove(owner) == null) {
+                return;
+            }
+            Scheduler latest = null;
+            for (Scheduler scheduler : REGISTERED.values()) {
+                latest = scheduler;
+            }
+            defaultScheduler = latest;
+        }
+    }
+
+    /**
+     * @return the shared scheduler running every task on a new virtual thread
+     */
+    public static Scheduler virtualThreads() {
+        return VirtualThreadsHolder.SCHEDULER;
+    }
+
+    private static final class VirtualThreadsHolder {
+
+        private static final Scheduler SCHEDULER = Schedulers.fromExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("facebook-sdk-virtual-", 0).factory()),
+            "facebook-sdk-virtual"
+        );
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Context;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Configures the default scheduler of the reactive extensions, see {@link FacebookSchedulers#getDefault()}.
+ * <p>
+ * The scheduler is selected using the {@code facebook.sdk.rx.scheduler} property, {@code bounded-elastic} by default.
+ * A {@link Scheduler} bean named {@code facebook} takes precedence over the property. The scheduler stays the default
+ * one until the application context is closed, then the scheduler of the most recent application context which is still
+ * running becomes the default one again, whatever the order the contexts are closed in.
+ */
+@Context
+@ConfigurationProperties("facebook.sdk.rx")
+public class FacebookSchedulersConfiguration implements AutoCloseable {
+
+    private final Scheduler schedulerBean;
+
+    private FacebookSchedulers.Type scheduler = FacebookSchedulers.Type.BOUNDED_ELASTIC;
+
+    public FacebookSchedulersConfiguration(@Nullable @Named("facebook") Scheduler schedulerBean) {
+        this.schedulerBean = schedulerBean;
+    }
+
+    public FacebookSchedulers.Type getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(FacebookSchedulers.Type scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return the scheduler used for the blocking calls when no other scheduler is specified
+     */
+    public Scheduler getDefaultScheduler() {
+        return schedulerBean == null ? FacebookSchedulers.of(scheduler) : schedulerBean;
+    }
+
+    @PostConstruct
+    void apply() {
+        FacebookSchedulers.register(this, getDefaultScheduler());
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        FacebookSchedulers.unregister(this);
+    }
+
+}
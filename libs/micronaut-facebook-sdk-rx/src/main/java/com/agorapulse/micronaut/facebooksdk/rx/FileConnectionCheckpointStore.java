@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * {@link ConnectionCheckpointStore} keeping each checkpoint in its own file in the given directory so the paging can
+ * be resumed after the process is restarted.
+ * <p>
+ * The file names are the SHA-256 digests of the keys. The checkpoints are written to a temporary file first and then
+ * moved to place atomically if the file system supports it, so the crash during the write never leaves a corrupted
+ * checkpoint behind.
+ */
+public class FileConnectionCheckpointStore implements ConnectionCheckpointStore {
+
+    private static final String EXTENSION = ".checkpoint";
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory of the checkpoint files, created if it does not exist
+     */
+    public FileConnectionCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Optional<String> load(String key) {
+        try {
+            String url = Files.readString(file(key), StandardCharsets.UTF_8).trim();
+            return url.isEmpty() ? Optional.empty() : Optional.of(url);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the checkpoint " + key, e);
+        }
+    }
+
+    @Override
+    public void save(String key, String nextPageUrl) {
+        Path file = file(key);
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.writeString(temporary, nextPageUrl, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the checkpoint " + key, e);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove the checkpoint " + key, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public String toString() {
+        return "FileConnectionCheckpointStore[directory:" + directory + "]";
+    }
+
+    private Path file(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -20,18 +20,397 @@ package com.agorapulse.micronaut.facebooksdk.rx;
 import com.restfb.Connection;
 import com.restfb.FacebookClient;
 import com.restfb.Parameter;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class FluxConnection {
 
+    /**
+     * The default number of the pages fetched ahead in the prefetching mode.
+     */
+    public static final int DEFAULT_PREFETCH = 2;
+
+    private static final String SINCE = "since";
+    private static final String UNTIL = "until";
+
     private FluxConnection() {
         // disallow instantiation
     }
 
+    /**
+     * Creates the flux of the connection pages fetched on the {@link FacebookSchedulers#getDefault()} scheduler.
+     * The next page is only fetched when requested by the downstream.
+     */
     public static <T> Flux<List<T>> create(FacebookClient client, String connection, Class<T> connectionType, Parameter... parameters) {
+        return create(client, connection, connectionType, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the connection pages fetched on the given scheduler.
+     * The next page is only fetched when requested by the downstream.
+     *
+     * @param scheduler the scheduler used for fetching the pages, {@link Schedulers#immediate()}
+     *                  fetches the pages on the subscribing thread
+     */
+    public static <T> Flux<List<T>> create(FacebookClient client, String connection, Class<T> connectionType, Scheduler scheduler, Parameter... parameters) {
+        return generate(client, connection, connectionType, parameters).subscribeOn(scheduler);
+    }
+
+    /**
+     * Creates the flux of the connection pages which fetches up to {@code prefetch} pages ahead on the
+     * {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #create(FacebookClient, String, Class, int, Scheduler, Parameter...)
+     */
+    public static <T> Flux<List<T>> create(FacebookClient client, String connection, Class<T> connectionType, int prefetch, Parameter... parameters) {
+        return create(client, connection, connectionType, prefetch, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the connection pages which fetches up to {@code prefetch} pages ahead.
+     * <p>
+     * The pages are fetched on the given scheduler while the previous pages are being processed downstream.
+     * No more than {@code prefetch} pages not yet requested by the downstream are kept in the buffer and no further
+     * page is fetched once the subscription is cancelled. The scheduler should be able to run more than one task at
+     * the same time, such as {@link Schedulers#boundedElastic()}, otherwise the fetching and the processing are
+     * serialized.
+     *
+     * @param prefetch  the maximum number of the pages fetched ahead
+     * @param scheduler the scheduler used for fetching and emitting the pages
+     */
+    public static <T> Flux<List<T>> create(FacebookClient client, String connection, Class<T> connectionType, int prefetch, Scheduler scheduler, Parameter... parameters) {
+        return generate(client, connection, connectionType, parameters)
+            .subscribeOn(scheduler)
+            .publishOn(scheduler, prefetch);
+    }
+
+    /**
+     * Creates the flux of the pages of all the given connections fetched on the {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #createAll(FacebookClient, List, Class, int, Scheduler, Parameter...)
+     */
+    public static <T> Flux<ConnectionPage<T>> createAll(FacebookClient client, List<String> connections, Class<T> connectionType, int concurrency, Parameter... parameters) {
+        return createAll(client, connections, connectionType, concurrency, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the pages of all the given connections, e.g. the posts of many pages, paging up to
+     * {@code concurrency} connections at the same time.
+     * <p>
+     * Each connection is paged sequentially and only one page per connection is fetched at a time, so there are never more
+     * than {@code concurrency} pages being fetched or waiting for the downstream. The pages of the same connection are
+     * emitted in order, the pages of different connections are interleaved. Each page is tagged with the connection it
+     * was fetched from. The next connection starts to be paged once any of the connections being paged is exhausted.
+     * The flux fails as soon as any of the pages fails to be fetched. The scheduler should be able to run more than one
+     * task at the same time, such as {@link Schedulers#boundedElastic()}, otherwise the connections are paged one by one.
+     *
+     * @param connections the names of the connections, e.g. {@code "1234/posts"}
+     * @param concurrency the maximum number of the connections paged at the same time
+     * @param scheduler   the scheduler used for fetching the pages
+     */
+    public static <T> Flux<ConnectionPage<T>> createAll(
+        FacebookClient client,
+        List<String> connections,
+        Class<T> connectionType,
+        int concurrency,
+        Scheduler scheduler,
+        Parameter... parameters
+    ) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least one but was " + concurrency);
+        }
+        return Flux.fromIterable(connections).flatMap(
+            connection -> generate(client, connection, connectionType, parameters)
+                .subscribeOn(scheduler)
+                .index((index, page) -> new ConnectionPage<>(connection, index, page)),
+            concurrency,
+            1
+        );
+    }
+
+    /**
+     * Creates the flux of the pages of the connection sliced into time windows fetched on the
+     * {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #timeSliced(FacebookClient, String, Class, Instant, Instant, int, int, boolean, Scheduler, Parameter...)
+     */
+    public static <T> Flux<List<T>> timeSliced(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        Instant since,
+        Instant until,
+        int slices,
+        int concurrency,
+        boolean ordered,
+        Parameter... parameters
+    ) {
+        return timeSliced(client, connection, connectionType, since, until, slices, concurrency, ordered, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the pages of the connection accepting the {@code since} and {@code until} parameters, such as
+     * {@code "1234/insights"} or {@code "1234/feed"}, with the range cut into {@code slices} windows of the same length
+     * paged at the same time.
+     * <p>
+     * The windows do not overlap, each window except the last one ends one second before the next window begins, so
+     * no item is emitted twice.
+     * <p>
+     * Each window is paged sequentially and only one page per window is fetched at a time, so there are never more than
+     * {@code concurrency} pages being fetched. If {@code ordered} is {@code true}, the pages of the windows are emitted
+     * window by window starting with the oldest one and the pages of the windows which are not emitted yet are buffered,
+     * otherwise the pages are emitted as soon as they are fetched. The flux fails as soon as any of the pages fails to be
+     * fetched. The scheduler should be able to run more than one task at the same time, such as
+     * {@link Schedulers#boundedElastic()}, otherwise the windows are paged one by one.
+     *
+     * @param since       the beginning of the range, sent as the Unix timestamp
+     * @param until       the end of the range, sent as the Unix timestamp
+     * @param slices      the number of the windows, the windows shorter than a second are merged
+     * @param concurrency the maximum number of the windows paged at the same time
+     * @param ordered     whether the pages should be emitted in the order of the windows
+     * @param scheduler   the scheduler used for fetching the pages
+     * @param parameters  URL parameters to include in the API call of every window, must not contain {@code since} nor {@code until}
+     */
+    public static <T> Flux<List<T>> timeSliced(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        Instant since,
+        Instant until,
+        int slices,
+        int concurrency,
+        boolean ordered,
+        Scheduler scheduler,
+        Parameter... parameters
+    ) {
+        if (slices < 1) {
+            throw new IllegalArgumentException("Number of slices must be at least one but was " + slices);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least one but was " + concurrency);
+        }
+        for (Parameter parameter : parameters) {
+            if (SINCE.equals(parameter.name) || UNTIL.equals(parameter.name)) {
+                throw new IllegalArgumentException("The range must be passed as the since and until arguments instead of the " + parameter.name + " parameter");
+            }
+        }
+
+        long from = since.getEpochSecond();
+        long to = until.getEpochSecond();
+
+        if (to <= from) {
+            throw new IllegalArgumentException("The end of the range " + until + " must be after its beginning " + since);
+        }
+
+        List<long[]> windows = new ArrayList<>(slices);
+        long start = from;
+        for (int i = 1; i <= slices; i++) {
+            long end = from + (to - from) * i / slices;
+            if (end > start) {
+                // both since and until are inclusive so the windows must not share the boundary second
+                windows.add(new long[] {start, i == slices ? end : end - 1});
+                start = end;
+            }
+        }
+
+        Function<long[], Flux<List<T>>> fetchWindow = window -> {
+            Parameter[] windowParameters = Arrays.copyOf(parameters, parameters.length + 2);
+            windowParameters[parameters.length] = Parameter.with(SINCE, window[0]);
+            windowParameters[parameters.length + 1] = Parameter.with(UNTIL, window[1]);
+            return generate(client, connection, connectionType, windowParameters).subscribeOn(scheduler);
+        };
+
+        return ordered
+            ? Flux.fromIterable(windows).flatMapSequential(fetchWindow, concurrency, 1)
+            : Flux.fromIterable(windows).flatMap(fetchWindow, concurrency, 1);
+    }
+
+    /**
+     * Creates the flux of the connection pages together with their checkpoints fetched on the
+     * {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #resumable(FacebookClient, String, Class, String, Scheduler, Parameter...)
+     */
+    public static <T> Flux<ResumablePage<T>> resumable(FacebookClient client, String connection, Class<T> connectionType, String startPageUrl, Parameter... parameters) {
+        return resumable(client, connection, connectionType, startPageUrl, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the connection pages together with their checkpoints, the URLs of the next pages.
+     * <p>
+     * The paging starts with the first page of the connection if {@code startPageUrl} is {@code null}, otherwise it
+     * resumes with the page of the given URL, usually {@link ResumablePage#getNextPageUrl()} of the last page processed.
+     * The parameters are ignored when resuming as the URL already contains them. The URLs of the next pages are stripped
+     * of the credentials and the pages are always fetched with the credentials of the client.
+     *
+     * @param startPageUrl the URL of the page to resume with or {@code null} to start with the first page
+     * @param scheduler    the scheduler used for fetching the pages
+     */
+    public static <T> Flux<ResumablePage<T>> resumable(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        String startPageUrl,
+        Scheduler scheduler,
+        Parameter... parameters
+    ) {
+        return generateResumable(client, connection, connectionType, () -> startPageUrl, parameters).subscribeOn(scheduler);
+    }
+
+    /**
+     * Processes the connection pages checkpointed into the given store fetched on the
+     * {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #resumable(FacebookClient, String, Class, ConnectionCheckpointStore, String, Function, Scheduler, Parameter...)
+     */
+    public static <T, R> Flux<R> resumable(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        ConnectionCheckpointStore store,
+        String key,
+        Function<List<T>, ? extends Publisher<R>> processor,
+        Parameter... parameters
+    ) {
+        return resumable(client, connection, connectionType, store, key, processor, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Processes the connection pages checkpointed into the given store.
+     * <p>
+     * The paging resumes from the checkpoint saved under the given {@code key} if there is any. Each page is processed
+     * by the publisher returned from the {@code processor}, one page at a time, and the URL of the next page is only
+     * saved once that publisher completes, so the processing must happen within it even if it is asynchronous. The page
+     * being processed when the paging stopped is fetched and processed again when resumed. The checkpoint is removed
+     * once the last page has been processed, it is kept if the paging or the processing fails or is cancelled.
+     *
+     * @param store     the store of the checkpoints
+     * @param key       the key of the checkpoint, e.g. the name of the export job
+     * @param processor the function processing the items of each page
+     * @param scheduler the scheduler used for fetching the pages
+     * @return the flux of the results of the processing
+     */
+    public static <T, R> Flux<R> resumable(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        ConnectionCheckpointStore store,
+        String key,
+        Function<List<T>, ? extends Publisher<R>> processor,
+        Scheduler scheduler,
+        Parameter... parameters
+    ) {
+        return generateResumable(client, connection, connectionType, () -> store.load(key).orElse(null), parameters)
+            .subscribeOn(scheduler)
+            .concatMap(page -> Flux.<R>from(processor.apply(page.getData())).concatWith(Mono.fromRunnable(() -> {
+                if (page.hasNext()) {
+                    store.save(key, page.getNextPageUrl());
+                } else {
+                    store.remove(key);
+                }
+            })), 1);
+    }
+
+    /**
+     * Creates the flux of the connection items fetched on the {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #items(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public static <T> Flux<T> items(FacebookClient client, String connection, Class<T> connectionType, Parameter... parameters) {
+        return items(client, connection, connectionType, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the connection items fetched on the given scheduler.
+     * <p>
+     * The items are emitted one by one and the next page is only fetched when the downstream requests an item
+     * which is not on any of the pages fetched so far, so operators such as {@link Flux#take(long)} stop the paging
+     * as soon as they are satisfied.
+     *
+     * @param scheduler the scheduler used for fetching the pages, {@link Schedulers#immediate()}
+     *                  fetches the pages on the subscribing thread
+     */
+    public static <T> Flux<T> items(FacebookClient client, String connection, Class<T> connectionType, Scheduler scheduler, Parameter... parameters) {
+        return Flux.<T, ItemsState<T>>generate(ItemsState::new, (state, sink) -> {
+            while (!state.items.hasNext()) {
+                if (state.started && state.nextPage == null) {
+                    sink.complete();
+                    return state;
+                }
+
+                Connection<T> conn = state.started
+                        ? client.fetchConnectionPage(state.nextPage, connectionType)
+                        : client.fetchConnection(connection, connectionType, parameters);
+
+                state.started = true;
+                state.items = conn.getData().iterator();
+                state.nextPage = conn.hasNext() ? conn.getNextPageUrl() : null;
+            }
+
+            sink.next(state.items.next());
+            return state;
+        }).subscribeOn(scheduler);
+    }
+
+    /**
+     * Creates the flux of the connection items read using the streaming decoder and fetched on the
+     * {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @see #streamItems(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public static <T> Flux<T> streamItems(FacebookClient client, String connection, Class<T> connectionType, Parameter... parameters) {
+        return streamItems(client, connection, connectionType, FacebookSchedulers.getDefault(), parameters);
+    }
+
+    /**
+     * Creates the flux of the connection items read using the streaming decoder and fetched on the given scheduler.
+     * <p>
+     * Unlike {@link #items(FacebookClient, String, Class, Scheduler, Parameter...)}, the pages are not mapped into
+     * {@link Connection} objects. The raw page is read using the Jackson streaming parser and each element of the
+     * {@code data} array is only mapped by the {@link FacebookClient#getJsonMapper()} when it is requested by the
+     * downstream. The next page is fetched using the {@code paging.next} URL with the credentials of the client.
+     *
+     * @param scheduler the scheduler used for fetching the pages, {@link Schedulers#immediate()}
+     *                  fetches the pages on the subscribing thread
+     */
+    public static <T> Flux<T> streamItems(FacebookClient client, String connection, Class<T> connectionType, Scheduler scheduler, Parameter... parameters) {
+        return Flux.<T, StreamingState>generate(StreamingState::new, (state, sink) -> {
+            if (state.page == null) {
+                state.page = StreamingConnectionPage.parse(client.fetchObject(connection, String.class, parameters));
+            }
+
+            String element = state.page.nextElement();
+            while (element == null) {
+                String nextPageUrl = state.page.getNextPageUrl();
+                if (nextPageUrl == null) {
+                    sink.complete();
+                    return state;
+                }
+
+                StreamingConnectionPage.NextPage nextPage = StreamingConnectionPage.nextPage(nextPageUrl);
+                state.page = StreamingConnectionPage.parse(client.fetchObject(nextPage.getObject(), String.class, nextPage.getParameters()));
+                element = state.page.nextElement();
+            }
+
+            sink.next(client.getJsonMapper().toJavaObject(element, connectionType));
+            return state;
+        }).subscribeOn(scheduler);
+    }
+
+    private static <T> Flux<List<T>> generate(FacebookClient client, String connection, Class<T> connectionType, Parameter... parameters) {
         return Flux.generate(() -> null, (String nextPage, SynchronousSink<List<T>> sink) -> {
             Connection<T> conn = nextPage == null
                     ? client.fetchConnection(connection, connectionType, parameters)
@@ -47,4 +426,60 @@ public class FluxConnection {
             }
         });
     }
+
+    private static <T> Flux<ResumablePage<T>> generateResumable(
+        FacebookClient client,
+        String connection,
+        Class<T> connectionType,
+        Supplier<String> start,
+        Parameter... parameters
+    ) {
+        return Flux.generate(ResumableState::new, (ResumableState state, SynchronousSink<ResumablePage<T>> sink) -> {
+            Connection<T> conn;
+
+            if (state.started) {
+                conn = client.fetchConnectionPage(state.nextPage, connectionType);
+            } else {
+                String startPageUrl = start.get();
+                if (startPageUrl == null) {
+                    conn = client.fetchConnection(connection, connectionType, parameters);
+                } else {
+                    StreamingConnectionPage.NextPage nextPage = StreamingConnectionPage.nextPage(startPageUrl);
+                    conn = client.fetchConnection(nextPage.getObject(), connectionType, nextPage.getParameters());
+                }
+                state.started = true;
+            }
+
+            state.nextPage = conn.hasNext() ? conn.getNextPageUrl() : null;
+            sink.next(new ResumablePage<>(conn.getData(), state.nextPage == null ? null : StreamingConnectionPage.stripCredentials(state.nextPage)));
+
+            if (state.nextPage == null) {
+                sink.complete();
+            }
+
+            return state;
+        });
+    }
+
+    private static final class ResumableState {
+
+        private boolean started;
+        private String nextPage;
+
+    }
+
+    private static final class StreamingState {
+
+        private StreamingConnectionPage page;
+
+    }
+
+    private static final class ItemsState<T> {
+
+        private Iterator<T> items = Collections.emptyIterator();
+        private String nextPage;
+        private boolean started;
+
+    }
+
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ConnectionCheckpointStore} keeping the checkpoints in memory, e.g. to resume the paging after a transient
+ * failure within the same process.
+ */
+public class InMemoryConnectionCheckpointStore implements ConnectionCheckpointStore {
+
+    private final Map<String, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> load(String key) {
+        return Optional.ofNullable(checkpoints.get(key));
+    }
+
+    @Override
+    public void save(String key, String nextPageUrl) {
+        checkpoints.put(key, nextPageUrl);
+    }
+
+    @Override
+    public void remove(String key) {
+        checkpoints.remove(key);
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryConnectionCheckpointStore[checkpoints:" + checkpoints.size() + "]";
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import com.restfb.BinaryAttachment;
+import com.restfb.Connection;
+import com.restfb.FacebookClient;
+import com.restfb.Parameter;
+import com.restfb.batch.BatchRequest;
+import com.restfb.batch.BatchResponse;
+import io.micronaut.core.async.propagation.ReactorPropagation;
+import io.micronaut.core.propagation.PropagatedContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Reactive facade of the blocking {@link FacebookClient}.
+ * <p>
+ * Every Graph API call is executed lazily when subscribed and always on the scheduler of the client, which is
+ * {@link FacebookSchedulers#getDefault()} unless specified, never on the subscribing thread. The Micronaut
+ * {@link PropagatedContext} found in the Reactor context of the subscriber, or else the one of the subscribing thread,
+ * is propagated to the single calls. As the calls are scheduled using the Reactor schedulers, the schedule hooks such
+ * as the ones propagating the tracing spans apply to them and to the pages of the connections too. Cancelling the
+ * subscription disposes the scheduled call, which interrupts the call in progress if the scheduler supports it, and
+ * stops fetching any further pages of the connections.
+ */
+public class ReactiveFacebookClient {
+
+    private final FacebookClient client;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates the client executing the calls on the {@link FacebookSchedulers#getDefault()} scheduler.
+     *
+     * @param client the blocking client
+     */
+    public ReactiveFacebookClient(FacebookClient client) {
+        this(client, null);
+    }
+
+    /**
+     * @param client    the blocking client
+     * @param scheduler the scheduler executing the calls or {@code null} for {@link FacebookSchedulers#getDefault()}
+     */
+    public ReactiveFacebookClient(FacebookClient client, Scheduler scheduler) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return the blocking client executing the calls
+     */
+    public FacebookClient getClient() {
+        return client;
+    }
+
+    /**
+     * @return the scheduler executing the calls
+     */
+    public Scheduler getScheduler() {
+        return scheduler == null ? FacebookSchedulers.getDefault() : scheduler;
+    }
+
+    /**
+     * Fetches a single <a href="http://developers.facebook.com/docs/reference/api/">Graph API object</a>, mapping the
+     * result to an instance of {@code objectType}.
+     *
+     * @param <T>        Java type to map to.
+     * @param object     ID of the object to fetch, e.g. {@code "me"}.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call (optional).
+     * @return mono of the requested object, empty if Facebook returned no object
+     */
+    public <T> Mono<T> fetchObject(String object, Class<T> objectType, Parameter... parameters) {
+        return blocking(() -> client.fetchObject(object, objectType, parameters));
+    }
+
+    /**
+     * Fetches multiple <a href="http://developers.facebook.com/docs/reference/api/">Graph API objects</a> in a single
+     * call, mapping the results to an instance of {@code objectType}.
+     *
+     * @param <T>        Java type to map to.
+     * @param ids        IDs of the objects to fetch, e.g. {@code "me", "arjun"}.
+     * @param objectType Object type token, usually {@link com.restfb.json.JsonObject}.
+     * @param parameters URL parameters to include in the API call (optional).
+     * @return mono of the requested objects keyed by their ids
+     */
+    public <T> Mono<T> fetchObjects(List<String> ids, Class<T> objectType, Parameter... parameters) {
+        return blocking(() -> client.fetchObjects(ids, objectType, parameters));
+    }
+
+    /**
+     * Fetches the first page of a Graph API {@code Connection} type, mapping the result to an instance of {@code connectionType}.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return mono of the first page of the requested Connection
+     * @see #fetchPages(String, Class, Parameter...)
+     */
+    public <T> Mono<Connection<T>> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+        return blocking(() -> client.fetchConnection(connection, connectionType, parameters));
+    }
+
+    /**
+     * Fetches all the pages of a Graph API {@code Connection} type, the next page is only fetched when requested by the downstream.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return flux of the pages of the requested Connection
+     * @see FluxConnection#create(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public <T> Flux<List<T>> fetchPages(String connection, Class<T> connectionType, Parameter... parameters) {
+        return Flux.defer(() -> FluxConnection.create(client, connection, connectionType, getScheduler(), parameters));
+    }
+
+    /**
+     * Fetches all the items of a Graph API {@code Connection} type, the next page is only fetched when the downstream
+     * requests more items.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return flux of the items of the requested Connection
+     * @see FluxConnection#items(FacebookClient, String, Class, Scheduler, Parameter...)
+     */
+    public <T> Flux<T> fetchItems(String connection, Class<T> connectionType, Parameter... parameters) {
+        return Flux.defer(() -> FluxConnection.items(client, connection, connectionType, getScheduler(), parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#publishing">Graph API publish</a> operation on the
+     * given {@code connection}, mapping the result to an instance of {@code objectType}.
+     *
+     * @param <T>        Java type to map to.
+     * @param connection The Connection to publish to.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call.
+     * @return mono of the Facebook response to your publish request
+     */
+    public <T> Mono<T> publish(String connection, Class<T> objectType, Parameter... parameters) {
+        return blocking(() -> client.publish(connection, objectType, parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#publishing">Graph API publish</a> operation on the
+     * given {@code connection} and includes some files - photos, for example - in the publish request, and mapping the
+     * result to an instance of {@code objectType}.
+     *
+     * @param <T>               Java type to map to.
+     * @param connection        The Connection to publish to.
+     * @param objectType        Object type token.
+     * @param binaryAttachments The files to include in the publish request.
+     * @param parameters        URL parameters to include in the API call.
+     * @return mono of the Facebook response to your publish request
+     */
+    public <T> Mono<T> publish(String connection, Class<T> objectType, List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
+        return blocking(() -> client.publish(connection, objectType, binaryAttachments, parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#deleting">Graph API delete</a> operation on the given
+     * {@code object}.
+     *
+     * @param object     The ID of the object to delete.
+     * @param parameters URL parameters to include in the API call.
+     * @return mono of {@code true} if Facebook indicated that the object was successfully deleted, {@code false} otherwise
+     */
+    public Mono<Boolean> deleteObject(String object, Parameter... parameters) {
+        return blocking(() -> client.deleteObject(object, parameters));
+    }
+
+    /**
+     * Executes operations as a batch using the <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     *
+     * @param batchRequests The operations to execute.
+     * @return mono of the responses in the order of the requests
+     * @see #executeBatch(List, List)
+     */
+    public Mono<List<BatchResponse>> executeBatch(BatchRequest... batchRequests) {
+        return executeBatch(Arrays.asList(batchRequests));
+    }
+
+    /**
+     * Executes operations as a batch using the <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     *
+     * @param batchRequests The operations to execute.
+     * @return mono of the responses in the order of the requests
+     * @see #executeBatch(List, List)
+     */
+    public Mono<List<BatchResponse>> executeBatch(List<BatchRequest> batchRequests) {
+        return executeBatch(batchRequests, Collections.emptyList());
+    }
+
+    /**
+     * Executes operations as a batch with binary attachments using the
+     * <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     * <p>
+     * The batch is executed in a single call. The response at each index belongs to the request at the same index.
+     * The responses omitted by Facebook, e.g. the successful requests with {@code omit_response_on_success}, are
+     * {@code null}.
+     *
+     * @param batchRequests     The operations to execute.
+     * @param binaryAttachments Binary attachments referenced by the batch requests.
+     * @return mono of the responses in the order of the requests
+     */
+    public Mono<List<BatchResponse>> executeBatch(List<BatchRequest> batchRequests, List<BinaryAttachment> binaryAttachments) {
+        return blocking(() -> client.executeBatch(batchRequests, binaryAttachments));
+    }
+
+    /**
+     * Executes any call of the blocking client on the scheduler of this client, e.g. the calls without a dedicated method.
+     *
+     * @param <T>  the type of the result
+     * @param call the call of the blocking client
+     * @return mono of the result of the call, empty if the call returned {@code null}
+     */
+    public <T> Mono<T> execute(Function<FacebookClient, T> call) {
+        return blocking(() -> call.apply(client));
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveFacebookClient[client:" + client + ", scheduler:" + getScheduler() + "]";
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.deferContextual(contextView -> {
+            // the call runs on the scheduler so the Micronaut context of the subscriber is passed explicitly
+            Callable<T> propagated = ReactorPropagation.findPropagatedContext(contextView)
+                .or(PropagatedContext::find)
+                .map(context -> context.wrap(call))
+                .orElse(call);
+            return Mono.fromCallable(propagated).subscribeOn(getScheduler());
+        });
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import java.util.List;
+
+/**
+ * Single page of the resumable connection paging together with the checkpoint to resume the paging after the page.
+ *
+ * @param <T> the type of the items
+ * @see FluxConnection#resumable(com.restfb.FacebookClient, String, Class, String, reactor.core.scheduler.Scheduler, com.restfb.Parameter...)
+ */
+public final class ResumablePage<T> {
+
+    private final List<T> data;
+    private final String nextPageUrl;
+
+    public ResumablePage(List<T> data, String nextPageUrl) {
+        this.data = data;
+        this.nextPageUrl = nextPageUrl;
+    }
+
+    /**
+     * @return the items of the page
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    /**
+     * @return the URL of the next page without the credentials or {@code null} if this is the last page
+     */
+    public String getNextPageUrl() {
+        return nextPageUrl;
+    }
+
+    public boolean hasNext() {
+        return nextPageUrl != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumablePage[items:" + data.size() + ", nextPageUrl:" + nextPageUrl + "]";
+    }
+
+}
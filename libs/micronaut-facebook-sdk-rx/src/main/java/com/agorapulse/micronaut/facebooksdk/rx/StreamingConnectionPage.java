@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx;
+
+import com.restfb.Parameter;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.json.JsonFactory;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * Single connection page read using the Jackson streaming parser.
+ * <p>
+ * The elements of the {@code data} array are returned one by one as JSON strings without building the tree of the
+ * whole page and the {@code paging.next} URL is read on the way.
+ */
+final class StreamingConnectionPage {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/?v\\d+\\.\\d+/");
+    private static final Set<String> CREDENTIAL_PARAMETERS = Set.of("access_token", "appsecret_proof", "appsecret_time");
+
+    private final String json;
+    private final JsonParser parser;
+
+    private boolean inData;
+    private boolean finished;
+    private int elementCount;
+    private String nextPageUrl;
+
+    private StreamingConnectionPage(String json) {
+        this.json = json;
+        this.parser = JSON_FACTORY.createParser(json);
+    }
+
+    static StreamingConnectionPage parse(String json) {
+        StreamingConnectionPage page = new StreamingConnectionPage(json);
+        if (page.parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Connection page must be a JSON object");
+        }
+        return page;
+    }
+
+    /**
+     * @return the next element of the {@code data} array, a JSON string for objects and arrays and the plain text
+     * for scalar values, or {@code null} if there are no more elements
+     */
+    String nextElement() {
+        if (!inData && !finished) {
+            readUntilData();
+        }
+
+        while (inData) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.END_ARRAY) {
+                inData = false;
+                readUntilData();
+                return null;
+            }
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                int start = (int) parser.currentTokenLocation().getCharOffset();
+                parser.skipChildren();
+                elementCount++;
+                return json.substring(start, (int) parser.currentLocation().getCharOffset());
+            }
+
+            if (token != JsonToken.VALUE_NULL) {
+                elementCount++;
+                return parser.getString();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the URL of the next page or {@code null} if this is the last page, only available after all the elements were read
+     */
+    String getNextPageUrl() {
+        // restfb considers the page without any data the last one
+        return elementCount == 0 ? null : nextPageUrl;
+    }
+
+    private void readUntilData() {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("data".equals(name) && value == JsonToken.START_ARRAY) {
+                inData = true;
+                return;
+            }
+
+            if ("paging".equals(name) && value == JsonToken.START_OBJECT) {
+                readPaging();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new IllegalArgumentException("Unexpected token " + token + " in the connection page");
+        }
+
+        finished = true;
+        parser.close();
+    }
+
+    private void readPaging() {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("next".equals(name) && value == JsonToken.VALUE_STRING) {
+                nextPageUrl = parser.getString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Splits the next page URL into the path relative to the API version and the parameters without the credentials
+     * so the page can be fetched using {@link com.restfb.FacebookClient#fetchObject(String, Class, Parameter...)}
+     * which adds the credentials of the client itself.
+     *
+     * @param nextPageUrl the URL of the next page
+     * @return the object to fetch followed by the parameters
+     */
+    static NextPage nextPage(String nextPageUrl) {
+        URI uri = URI.create(nextPageUrl);
+        String path = VERSION_PREFIX.matcher(uri.getRawPath()).replaceFirst("");
+        List<Parameter> parameters = new ArrayList<>();
+
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                String name = decode(separator < 0 ? pair : pair.substring(0, separator));
+                if (!name.isEmpty() && !CREDENTIAL_PARAMETERS.contains(name)) {
+                    parameters.add(Parameter.with(name, separator < 0 ? "" : decode(pair.substring(separator + 1))));
+                }
+            }
+        }
+
+        return new NextPage(decode(path), parameters.toArray(new Parameter[0]));
+    }
+
+    /**
+     * Removes the credentials such as {@code access_token} from the query of the next page URL so it can be stored safely.
+     *
+     * @param nextPageUrl the URL of the next page
+     * @return the URL without the credentials
+     */
+    static String stripCredentials(String nextPageUrl) {
+        URI uri = URI.create(nextPageUrl);
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return nextPageUrl;
+        }
+
+        StringJoiner remaining = new StringJoiner("&");
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (!CREDENTIAL_PARAMETERS.contains(decode(separator < 0 ? pair : pair.substring(0, separator)))) {
+                remaining.add(pair);
+            }
+        }
+
+        int queryStart = nextPageUrl.indexOf('?');
+        return remaining.length() == 0 ? nextPageUrl.substring(0, queryStart) : nextPageUrl.substring(0, queryStart + 1) + remaining;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    static final class NextPage {
+
+        private final String object;
+        private final Parameter[] parameters;
+
+        NextPage(String object, Parameter[] parameters) {
+            this.object = object;
+            this.parameters = parameters;
+        }
+
+        String getObject() {
+            return object;
+        }
+
+        Parameter[] getParameters() {
+            return parameters;
+        }
+
+    }
+
+}
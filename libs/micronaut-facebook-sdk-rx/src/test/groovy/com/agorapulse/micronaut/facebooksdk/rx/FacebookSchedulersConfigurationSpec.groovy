@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx
+
+import groovy.transform.CompileDynamic
+import io.micronaut.context.ApplicationContext
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+
+@CompileDynamic
+class FacebookSchedulersConfigurationSpec extends Specification {
+
+    void 'default scheduler is configured using property #value'() {
+        given:
+            ApplicationContext context = ApplicationContext.run('facebook.sdk.rx.scheduler': value)
+        expect:
+            FacebookSchedulers.default.is(expected)
+        when:
+            context.close()
+        then:
+            FacebookSchedulers.default.is(Schedulers.boundedElastic())
+        where:
+            value             | expected
+            'virtual-threads' | FacebookSchedulers.virtualThreads()
+            'immediate'       | Schedulers.immediate()
+            'bounded-elastic' | Schedulers.boundedElastic()
+    }
+
+    void 'scheduler bean takes precedence'() {
+        given:
+            Scheduler scheduler = Schedulers.newSingle('custom-facebook')
+            FacebookSchedulersConfiguration configuration = new FacebookSchedulersConfiguration(scheduler)
+            configuration.scheduler = FacebookSchedulers.Type.IMMEDIATE
+        when:
+            configuration.apply()
+        then:
+            FacebookSchedulers.default.is(scheduler)
+        when:
+            configuration.close()
+        then:
+            FacebookSchedulers.default.is(Schedulers.boundedElastic())
+        cleanup:
+            configuration.close()
+            scheduler.dispose()
+    }
+
+    void 'configurations closed out of order never leave a closed scheduler as the default one'() {
+        given:
+            Scheduler firstScheduler = Schedulers.newSingle('first-facebook')
+            Scheduler secondScheduler = Schedulers.newSingle('second-facebook')
+            FacebookSchedulersConfiguration first = new FacebookSchedulersConfiguration(firstScheduler)
+            FacebookSchedulersConfiguration second = new FacebookSchedulersConfiguration(secondScheduler)
+        when:
+            first.apply()
+            second.apply()
+        then:
+            FacebookSchedulers.default.is(secondScheduler)
+        when:
+            first.close()
+            firstScheduler.dispose()
+        then:
+            FacebookSchedulers.default.is(secondScheduler)
+        when:
+            second.close()
+        then:
+            FacebookSchedulers.default.is(Schedulers.boundedElastic())
+        cleanup:
+            first.close()
+            second.close()
+            firstScheduler.dispose()
+            secondScheduler.dispose()
+    }
+
+    void 'closing the latest configuration restores the previous one'() {
+        given:
+            Scheduler firstScheduler = Schedulers.newSingle('first-facebook')
+            Scheduler secondScheduler = Schedulers.newSingle('second-facebook')
+            FacebookSchedulersConfiguration first = new FacebookSchedulersConfiguration(firstScheduler)
+            FacebookSchedulersConfiguration second = new FacebookSchedulersConfiguration(secondScheduler)
+        when:
+            first.apply()
+            second.apply()
+            second.close()
+        then:
+            FacebookSchedulers.default.is(firstScheduler)
+        when:
+            first.close()
+        then:
+            FacebookSchedulers.default.is(Schedulers.boundedElastic())
+        cleanup:
+            first.close()
+            second.close()
+            firstScheduler.dispose()
+            secondScheduler.dispose()
+    }
+
+    void 'predefined schedulers are selected by type'() {
+        expect:
+            FacebookSchedulers.of(FacebookSchedulers.Type.BOUNDED_ELASTIC).is(Schedulers.boundedElastic())
+            FacebookSchedulers.of(FacebookSchedulers.Type.VIRTUAL_THREADS).is(FacebookSchedulers.virtualThreads())
+            FacebookSchedulers.of(FacebookSchedulers.Type.IMMEDIATE).is(Schedulers.immediate())
+    }
+
+}
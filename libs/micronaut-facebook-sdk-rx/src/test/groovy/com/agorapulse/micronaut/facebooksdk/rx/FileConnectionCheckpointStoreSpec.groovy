@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx
+
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+@CompileDynamic
+class FileConnectionCheckpointStoreSpec extends Specification {
+
+    @TempDir Path directory
+
+    void 'checkpoints are stored in files'() {
+        given:
+            String url = 'https://graph.facebook.com/v23.0/1234/insights?metric=page_fans&after=QVFI'
+            FileConnectionCheckpointStore store = new FileConnectionCheckpointStore(directory.resolve('checkpoints'))
+        expect:
+            !store.load('export').present
+
+        when:
+            store.save('export', url)
+            store.save('other', 'https://graph.facebook.com/v23.0/1234/feed?after=1')
+        then:
+            new FileConnectionCheckpointStore(directory.resolve('checkpoints')).load('export').get() == url
+            Files.list(directory.resolve('checkpoints')).count() == 2
+
+        when:
+            store.save('export', url + '2')
+        then:
+            store.load('export').get() == url + '2'
+            Files.list(directory.resolve('checkpoints')).count() == 2
+
+        when:
+            store.remove('export')
+        then:
+            !store.load('export').present
+            store.load('other').present
+    }
+
+}
@@ -20,12 +20,23 @@ package com.agorapulse.micronaut.facebooksdk.rx
 import com.restfb.Connection
 import com.restfb.DefaultFacebookClient
 import com.restfb.FacebookClient
+import com.restfb.Parameter
 import com.restfb.exception.FacebookException
+import com.restfb.types.Page
 import groovy.transform.CompileDynamic
+import org.reactivestreams.Subscription
+import reactor.core.publisher.BaseSubscriber
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
 import spock.lang.Specification
 
+import java.time.Instant
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
 @CompileDynamic
 class FluxConnectionSpec extends Specification {
 
@@ -94,4 +105,492 @@ class FluxConnectionSpec extends Specification {
             all == ['error']
     }
 
+    void 'prefetching flux connection fetches pages ahead'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            CountDownLatch secondPageFetched = new CountDownLatch(1)
+
+            _ * client.fetchConnection('/foo', String) >> page(client, 1, 3)
+            _ * client.fetchConnectionPage('https://example.com/page/2', String) >> {
+                secondPageFetched.countDown()
+                return page(client, 2, 3)
+            }
+            _ * client.fetchConnectionPage('https://example.com/page/3', String) >> page(client, 3, 3)
+        when:
+            List<Boolean> fetchedAhead = []
+            List<List<String>> pages = FluxConnection.create(client, '/foo', String, 2)
+                    .doOnNext { fetchedAhead << secondPageFetched.await(5, TimeUnit.SECONDS) }
+                    .collectList()
+                    .block()
+        then:
+            pages == [['1'], ['2'], ['3']]
+            fetchedAhead.every()
+    }
+
+    void 'prefetching flux connection honours backpressure and cancellation'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            AtomicInteger fetched = new AtomicInteger()
+            CountDownLatch received = new CountDownLatch(1)
+
+            _ * client.fetchConnection('/foo', String) >> { fetched.incrementAndGet(); page(client, 1, 10) }
+            _ * client.fetchConnectionPage(_, String) >> { String url, Class type ->
+                int number = fetched.incrementAndGet()
+                return page(client, number, 10)
+            }
+        when:
+            BaseSubscriber<List<String>> subscriber = new BaseSubscriber<List<String>>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    request(1)
+                }
+
+                @Override
+                protected void hookOnNext(List<String> value) {
+                    received.countDown()
+                }
+            }
+            client.fetchFlux('/foo', String, [:], 2).subscribe(subscriber)
+            received.await(5, TimeUnit.SECONDS)
+            Thread.sleep(200)
+        then:
+            fetched.get() == 2
+
+        when:
+            subscriber.dispose()
+            Thread.sleep(200)
+        then:
+            fetched.get() == 2
+    }
+
+    void 'pages are not fetched on the subscribing thread by default'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            List<String> threads = []
+
+            _ * client.fetchConnection('/foo', String) >> { threads << Thread.currentThread().name; page(client, 1, 2) }
+            _ * client.fetchConnectionPage(_, String) >> { threads << Thread.currentThread().name; page(client, 2, 2) }
+        when:
+            List<List<String>> pages = FluxConnection.create(client, '/foo', String).collectList().block()
+        then:
+            pages == [['1'], ['2']]
+            threads.size() == 2
+            threads.every { it.startsWith('boundedElastic-') }
+    }
+
+    void 'pages are fetched on the configured scheduler'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            List<String> threads = []
+
+            _ * client.fetchConnection('/foo', String) >> { threads << Thread.currentThread().name; page(client, 1, 1) }
+
+            FacebookSchedulersConfiguration configuration = new FacebookSchedulersConfiguration(scheduler)
+        when:
+            configuration.apply()
+            client.fetchFlux('/foo', String).blockLast()
+        then:
+            threads.size() == 1
+            threads[0].startsWith(expected ?: Thread.currentThread().name)
+        cleanup:
+            configuration.close()
+        where:
+            scheduler                            | expected
+            FacebookSchedulers.virtualThreads()  | 'facebook-sdk-virtual-'
+            Schedulers.immediate()               | null
+    }
+
+    void 'pages are fetched on the given scheduler'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            Scheduler scheduler = Schedulers.newSingle('custom-facebook')
+            List<String> threads = []
+
+            _ * client.fetchConnection('/foo', String) >> { threads << Thread.currentThread().name; page(client, 1, 1) }
+        when:
+            client.fetchFlux('/foo', String, [:], scheduler).blockLast()
+        then:
+            threads.size() == 1
+            threads[0].startsWith('custom-facebook')
+        cleanup:
+            scheduler.dispose()
+    }
+
+    void 'items are emitted one by one'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+
+            _ * client.fetchConnection('/foo', String) >> new Connection<>(
+                    client,
+                    '{ "data" : ["one", "two"], "paging" : { "next" : "https://example.com/last" } }',
+                    String
+            )
+            _ * client.fetchConnectionPage('https://example.com/last', String) >> new Connection<>(client, '{ "data" : ["three"] }', String)
+        expect:
+            client.fetchFluxItems('/foo', String).collectList().block() == ['one', 'two', 'three']
+    }
+
+    void 'taking items stops fetching further pages'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            AtomicInteger fetched = new AtomicInteger()
+
+            _ * client.fetchConnection('/foo', String) >> {
+                fetched.incrementAndGet()
+                return new Connection<>(client, '{ "data" : ["1", "2", "3"], "paging" : { "next" : "https://example.com/page/2" } }', String)
+            }
+            _ * client.fetchConnectionPage(_, String) >> { String url, Class type ->
+                fetched.incrementAndGet()
+                return new Connection<>(client, '{ "data" : ["4", "5", "6"], "paging" : { "next" : "https://example.com/page/3" } }', String)
+            }
+        when:
+            List<String> items = FluxConnection.items(client, '/foo', String).take(4).collectList().block()
+        then:
+            items == ['1', '2', '3', '4']
+            fetched.get() == 2
+
+        when:
+            fetched.set(0)
+            items = client.fetchFluxItems('/foo', String).take(3).collectList().block()
+        then:
+            items == ['1', '2', '3']
+            fetched.get() == 1
+    }
+
+    void 'items are read using the streaming decoder'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            List<List<String>> nextPageParameters = []
+            AtomicInteger fetched = new AtomicInteger()
+
+            _ * client.fetchObject('/foo', String, *_) >> {
+                fetched.incrementAndGet()
+                return '{ "data" : [{ "id": "1" }, { "id": "2" }], "paging" : { "next" : "https://graph.facebook.com/v19.0/foo?access_token=token&after=Mg" } }'
+            }
+            _ * client.fetchObject('foo', String, *_) >> { String object, Class type, Parameter[] params ->
+                fetched.incrementAndGet()
+                nextPageParameters << params.collect { "$it.name=$it.value".toString() }
+                return '{ "data" : [{ "id": "3" }] }'
+            }
+        when:
+            List<Page> pages = client.streamFluxItems('/foo', Page, [fields: 'id']).collectList().block()
+        then:
+            pages*.id == ['1', '2', '3']
+            nextPageParameters == [['after=Mg']]
+            fetched.get() == 2
+
+        when:
+            fetched.set(0)
+            pages = FluxConnection.streamItems(client, '/foo', Page).take(2).collectList().block()
+        then:
+            pages*.id == ['1', '2']
+            fetched.get() == 1
+    }
+
+    void 'many connections are paged concurrently'() {
+        given:
+            AtomicInteger inFlight = new AtomicInteger()
+            AtomicInteger maxInFlight = new AtomicInteger()
+            List<String> connections = (1..10).collect { "$it/posts".toString() }
+
+            // not a spy as the mock interactions are synchronized
+            FacebookClient client = new DefaultFacebookClient() {
+                @Override
+                <T> Connection<T> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+                    assert parameters*.name == ['limit']
+                    return fetch(inFlight, maxInFlight) { sourcePage(this, connection, 1) }
+                }
+
+                @Override
+                <T> Connection<T> fetchConnectionPage(String url, Class<T> connectionType) {
+                    String[] parts = url.split('/')
+                    return fetch(inFlight, maxInFlight) { sourcePage(this, "${parts[3]}/posts", parts[5] as int) }
+                }
+            }
+        when:
+            List<ConnectionPage<String>> pages = client.fetchFluxAll(connections, String, [limit: 1], 3).collectList().block()
+        then:
+            pages.size() == 30
+            pages.groupBy { it.connection }.collectEntries { k, v -> [k, v*.data.flatten()] } == connections.collectEntries {
+                [it, ["$it#1", "$it#2", "$it#3"]*.toString()]
+            }
+            pages.groupBy { it.connection }.values().every { it*.index == [0L, 1L, 2L] }
+            maxInFlight.get() > 1
+            maxInFlight.get() <= 3
+    }
+
+    void 'many connections require positive concurrency'() {
+        when:
+            FluxConnection.createAll(Mock(FacebookClient), ['1/posts'], String, 0)
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    void 'resumable paging emits checkpoints without credentials'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+
+            _ * client.fetchConnection('1234/insights', String, *_) >> { String connection, Class type, Parameter[] params ->
+                assert !params*.name.contains('access_token')
+                Parameter after = params.find { it.name == 'after' }
+                return tokenPage(client, after ? after.value as int : 1, 3)
+            }
+            _ * client.fetchConnectionPage('https://graph.facebook.com/v23.0/1234/insights?access_token=secret&metric=page_fans&after=2', String) >> {
+                tokenPage(client, 2, 3)
+            }
+            _ * client.fetchConnectionPage('https://graph.facebook.com/v23.0/1234/insights?access_token=secret&metric=page_fans&after=3', String) >> {
+                tokenPage(client, 3, 3)
+            }
+        when:
+            List<ResumablePage<String>> all = client.fetchFluxResumable('1234/insights', String, [metric: 'page_fans'], null).collectList().block()
+        then:
+            all*.data == [['1'], ['2'], ['3']]
+            all*.nextPageUrl == [
+                'https://graph.facebook.com/v23.0/1234/insights?metric=page_fans&after=2',
+                'https://graph.facebook.com/v23.0/1234/insights?metric=page_fans&after=3',
+                null,
+            ]
+
+        when:
+            List<ResumablePage<String>> resumed = FluxConnection.resumable(client, '1234/insights', String, all[0].nextPageUrl).collectList().block()
+        then:
+            resumed*.data == [['2'], ['3']]
+    }
+
+    void 'paging resumes from the checkpoint store'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            ConnectionCheckpointStore store = new InMemoryConnectionCheckpointStore()
+            boolean failing = true
+
+            _ * client.fetchConnection('1234/insights', String, *_) >> { String connection, Class type, Parameter[] params ->
+                assert !params*.name.contains('access_token')
+                Parameter after = params.find { it.name == 'after' }
+                return tokenPage(client, after ? after.value as int : 1, 4)
+            }
+            _ * client.fetchConnectionPage({ it.endsWith('after=2') }, String) >> tokenPage(client, 2, 4)
+            _ * client.fetchConnectionPage({ it.endsWith('after=3') }, String) >> {
+                if (failing) {
+                    throw new FacebookException('Service temporarily unavailable') { }
+                }
+                return tokenPage(client, 3, 4)
+            }
+            _ * client.fetchConnectionPage({ it.endsWith('after=4') }, String) >> tokenPage(client, 4, 4)
+        when:
+            List<List<String>> processed = []
+            FluxConnection.resumable(client, '1234/insights', String, store, 'export') { List<String> page -> Mono.fromRunnable { processed << page } }.blockLast()
+        then:
+            thrown(FacebookException)
+            processed == [['1'], ['2']]
+            store.load('export').get() == 'https://graph.facebook.com/v23.0/1234/insights?after=3'
+
+        when:
+            failing = false
+            List<List<String>> resumed = client.fetchFluxResumable('1234/insights', String, [:], store, 'export') { List<String> page -> Mono.just(page) }
+                .collectList()
+                .block()
+        then:
+            resumed == [['3'], ['4']]
+            !store.load('export').present
+    }
+
+    void 'checkpoint is saved only after the asynchronous processing of the page'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            ConnectionCheckpointStore store = new InMemoryConnectionCheckpointStore()
+            CountDownLatch secondPageFetched = new CountDownLatch(1)
+
+            _ * client.fetchConnection('1234/insights', String, *_) >> { String connection, Class type, Parameter[] params ->
+                Parameter after = params.find { it.name == 'after' }
+                return tokenPage(client, after ? after.value as int : 1, 3)
+            }
+            _ * client.fetchConnectionPage({ it.endsWith('after=2') }, String) >> {
+                secondPageFetched.countDown()
+                tokenPage(client, 2, 3)
+            }
+            _ * client.fetchConnectionPage({ it.endsWith('after=3') }, String) >> tokenPage(client, 3, 3)
+        when:
+            FluxConnection.resumable(client, '1234/insights', String, store, 'export') { List<String> page ->
+                Mono.fromCallable {
+                    // the next page is fetched ahead while the first page is still being processed
+                    assert secondPageFetched.await(5, TimeUnit.SECONDS)
+                    if (page == ['2']) {
+                        throw new IllegalStateException('Processing failed')
+                    }
+                    return page
+                }.subscribeOn(Schedulers.parallel())
+            }.publishOn(Schedulers.parallel()).blockLast()
+        then:
+            thrown(IllegalStateException)
+            store.load('export').get() == 'https://graph.facebook.com/v23.0/1234/insights?metric=page_fans&after=2'
+
+        when:
+            List<List<String>> resumed = FluxConnection.resumable(client, '1234/insights', String, store, 'export') { List<String> page -> Mono.just(page) }
+                .collectList()
+                .block()
+        then:
+            resumed == [['2'], ['3']]
+            !store.load('export').present
+    }
+
+    void 'time range is sliced into windows paged concurrently'() {
+        given:
+            AtomicInteger inFlight = new AtomicInteger()
+            AtomicInteger maxInFlight = new AtomicInteger()
+            List<String> windows = Collections.synchronizedList([])
+            // the first windows wait for each other so they are fetched at the same time
+            CountDownLatch started = new CountDownLatch(2)
+
+            // not a spy as the mock interactions are synchronized
+            FacebookClient client = new DefaultFacebookClient() {
+                @Override
+                <T> Connection<T> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+                    assert connection == '1234/insights'
+                    assert parameters*.name == ['metric', 'since', 'until']
+                    String window = "${parameters[1].value}-${parameters[2].value}"
+                    windows << window
+                    return fetch(inFlight, maxInFlight, 0) {
+                        started.countDown()
+                        assert started.await(5, TimeUnit.SECONDS)
+                        windowPage(this, window, 1)
+                    }
+                }
+
+                @Override
+                <T> Connection<T> fetchConnectionPage(String url, Class<T> connectionType) {
+                    return fetch(inFlight, maxInFlight, 0) { windowPage(this, url.split('/')[3], 2) }
+                }
+            }
+        when:
+            List<String> ordered = FluxConnection.timeSliced(
+                client,
+                '1234/insights',
+                String,
+                Instant.ofEpochSecond(0),
+                Instant.ofEpochSecond(1000),
+                4,
+                2,
+                true,
+                Schedulers.boundedElastic(),
+                Parameter.with('metric', 'page_fans')
+            ).collectList().block().flatten()
+        then:
+            windows.sort() == ['0-249', '250-499', '500-749', '750-1000']
+            ordered == ['0-249#1', '0-249#2', '250-499#1', '250-499#2', '500-749#1', '500-749#2', '750-1000#1', '750-1000#2']
+            maxInFlight.get() == 2
+    }
+
+    void 'time sliced windows are emitted as soon as they are fetched if not ordered'() {
+        given:
+            AtomicInteger inFlight = new AtomicInteger()
+            AtomicInteger maxInFlight = new AtomicInteger()
+            // all the windows wait for each other so they are fetched at the same time
+            CountDownLatch started = new CountDownLatch(4)
+            // the oldest window waits until the newest one is emitted
+            CountDownLatch newestEmitted = new CountDownLatch(1)
+
+            FacebookClient client = new DefaultFacebookClient() {
+                @Override
+                <T> Connection<T> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+                    String window = "${parameters[1].value}-${parameters[2].value}"
+                    return fetch(inFlight, maxInFlight, 0) {
+                        started.countDown()
+                        assert started.await(5, TimeUnit.SECONDS)
+                        if (window == '0-249') {
+                            assert newestEmitted.await(5, TimeUnit.SECONDS)
+                        }
+                        windowPage(this, window, 1)
+                    }
+                }
+
+                @Override
+                <T> Connection<T> fetchConnectionPage(String url, Class<T> connectionType) {
+                    return fetch(inFlight, maxInFlight, 0) { windowPage(this, url.split('/')[3], 2) }
+                }
+            }
+        when:
+            List<String> unordered = client.fetchFluxSliced(
+                '1234/insights',
+                String,
+                [metric: 'page_fans'],
+                Instant.ofEpochSecond(0),
+                Instant.ofEpochSecond(1000),
+                4,
+                4,
+                false
+            ).doOnNext {
+                if (it == ['750-1000#1']) {
+                    newestEmitted.countDown()
+                }
+            }.collectList().block().flatten()
+        then:
+            unordered.toSorted() == ['0-249#1', '0-249#2', '250-499#1', '250-499#2', '500-749#1', '500-749#2', '750-1000#1', '750-1000#2']
+            unordered.indexOf('0-249#1') > unordered.indexOf('750-1000#1')
+            maxInFlight.get() == 4
+    }
+
+    void 'windows shorter than a second are merged'() {
+        given:
+            FacebookClient client = Spy(DefaultFacebookClient)
+            List<String> windows = []
+            _ * client.fetchConnection('/foo', String, *_) >> { String connection, Class type, Parameter[] params ->
+                windows << "${params[0].value}-${params[1].value}".toString()
+                return page(client, 1, 1)
+            }
+        when:
+            FluxConnection.timeSliced(client, '/foo', String, Instant.ofEpochSecond(10), Instant.ofEpochSecond(13), 5, 1, true).blockLast()
+        then:
+            windows == ['10-10', '11-11', '12-13']
+    }
+
+    void 'time slicing arguments are validated'() {
+        when:
+            FluxConnection.timeSliced(Mock(FacebookClient), '/foo', String, Instant.ofEpochSecond(since), Instant.ofEpochSecond(until), slices, 1, true, parameters as Parameter[])
+        then:
+            thrown(IllegalArgumentException)
+        where:
+            since | until | slices | parameters
+            0     | 100   | 0      | []
+            100   | 100   | 1      | []
+            0     | 100   | 1      | [Parameter.with('since', 0)]
+    }
+
+    private static Connection<String> tokenPage(FacebookClient client, int number, int total) {
+        String next = "https://graph.facebook.com/v23.0/1234/insights?access_token=secret&metric=page_fans&after=${number + 1}"
+        if (total == 4) {
+            next = "https://graph.facebook.com/v23.0/1234/insights?access_token=secret&after=${number + 1}"
+        }
+        String paging = number < total ? ", \"paging\" : { \"next\" : \"$next\" }" : ''
+        return new Connection<>(client, "{ \"data\" : [\"$number\"]$paging }", String)
+    }
+
+    private static Connection<String> fetch(AtomicInteger inFlight, AtomicInteger maxInFlight, Closure<Connection<String>> page) {
+        return fetch(inFlight, maxInFlight, 20, page)
+    }
+
+    private static Connection<String> fetch(AtomicInteger inFlight, AtomicInteger maxInFlight, long delay, Closure<Connection<String>> page) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> Math.max(a, b) }
+        try {
+            Thread.sleep(delay)
+            return page.call()
+        } finally {
+            inFlight.decrementAndGet()
+        }
+    }
+
+    private static Connection<String> sourcePage(FacebookClient client, String connection, int number) {
+        String paging = number < 3 ? ", \"paging\" : { \"next\" : \"https://example.com/${connection.split('/')[0]}/page/${number + 1}\" }" : ''
+        return new Connection<>(client, "{ \"data\" : [\"$connection#$number\"]$paging }", String)
+    }
+
+    private static Connection<String> windowPage(FacebookClient client, String window, int number) {
+        String paging = number < 2 ? ", \"paging\" : { \"next\" : \"https://example.com/${window}/page/${number + 1}\" }" : ''
+        return new Connection<>(client, "{ \"data\" : [\"$window#$number\"]$paging }", String)
+    }
+
+    private static Connection<String> page(FacebookClient client, int number, int total) {
+        String paging = number < total ? ", \"paging\" : { \"next\" : \"https://example.com/page/${number + 1}\" }" : ''
+        return new Connection<>(client, "{ \"data\" : [\"$number\"]$paging }", String)
+    }
+
 }
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx
+
+import com.restfb.Connection
+import com.restfb.DefaultFacebookClient
+import com.restfb.FacebookClient
+import com.restfb.batch.BatchRequest
+import com.restfb.batch.BatchResponse
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.types.FacebookType
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import io.micronaut.core.async.propagation.ReactorPropagation
+import io.micronaut.core.propagation.PropagatedContext
+import io.micronaut.core.propagation.PropagatedContextElement
+import reactor.core.Disposable
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@CompileDynamic
+class ReactiveFacebookClientSpec extends Specification {
+
+    @AutoCleanup('dispose') Scheduler scheduler = Schedulers.newSingle('facebook-test')
+
+    FacebookClient client = Mock()
+    ReactiveFacebookClient reactive = new ReactiveFacebookClient(client, scheduler)
+
+    void 'calls are executed lazily on the scheduler'() {
+        given:
+            String thread = null
+        when:
+            Mono<Page> page = reactive.fetchObject('1234', Page)
+        then:
+            0 * client._
+
+        when:
+            Page result = page.block()
+        then:
+            1 * client.fetchObject('1234', Page) >> {
+                thread = Thread.currentThread().name
+                new Page(id: '1234')
+            }
+
+            result.id == '1234'
+            thread.startsWith('facebook-test')
+    }
+
+    void 'publish, delete and batch'() {
+        when:
+            FacebookType published = reactive.publish('me/feed', FacebookType).block()
+            boolean deleted = reactive.deleteObject('1_2').block()
+            List<BatchResponse> responses = reactive.executeBatch(
+                new BatchRequest.BatchRequestBuilder('me').build(),
+                new BatchRequest.BatchRequestBuilder('me/feed').build(),
+                new BatchRequest.BatchRequestBuilder('me/likes').build()
+            ).block()
+            Optional<Page> missing = reactive.execute { it.fetchObject('me', Page) }.blockOptional()
+        then:
+            1 * client.publish('me/feed', FacebookType) >> new FacebookType(id: '1_2')
+            1 * client.deleteObject('1_2') >> true
+            1 * client.executeBatch(_, []) >> [new BatchResponse(200, [], '1'), null, new BatchResponse(200, [], '3')]
+            1 * client.fetchObject('me', Page) >> null
+
+            published.id == '1_2'
+            deleted
+            responses*.body == ['1', null, '3']
+            !missing.present
+    }
+
+    void 'context of the subscribing thread is propagated to the call'() {
+        given:
+            TestContextElement element = new TestContextElement('thread')
+            TestContextElement found = null
+        when:
+            Page page
+            try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(element).propagate()) {
+                page = reactive.fetchObject('me', Page).block()
+            }
+        then:
+            1 * client.fetchObject('me', Page) >> {
+                found = PropagatedContext.find().flatMap { it.find(TestContextElement) }.orElse(null)
+                new Page(id: '1')
+            }
+
+            page.id == '1'
+            found.is(element)
+    }
+
+    void 'context of the reactor subscriber is propagated to the call'() {
+        given:
+            TestContextElement element = new TestContextElement('reactor')
+            TestContextElement found = null
+        when:
+            Page page = reactive.fetchObject('me', Page)
+                .contextWrite { ReactorPropagation.addContextElement(it, element) }
+                .block()
+        then:
+            1 * client.fetchObject('me', Page) >> {
+                found = PropagatedContext.find().flatMap { it.find(TestContextElement) }.orElse(null)
+                new Page(id: '1')
+            }
+
+            page.id == '1'
+            found.is(element)
+            !PropagatedContext.exists()
+    }
+
+    void 'errors are propagated'() {
+        when:
+            reactive.fetchObject('me', Page).block()
+        then:
+            1 * client.fetchObject('me', Page) >> {
+                throw new FacebookOAuthException('OAuthException', 'Error validating access token', 190, null, 400, null, null, null, null)
+            }
+
+            FacebookOAuthException e = thrown(FacebookOAuthException)
+            e.errorCode == 190
+    }
+
+    void 'cancellation interrupts the call in progress'() {
+        given:
+            CountDownLatch started = new CountDownLatch(1)
+            CountDownLatch interrupted = new CountDownLatch(1)
+            client.fetchObject('me', Page) >> {
+                started.countDown()
+                try {
+                    Thread.sleep(10_000)
+                } catch (InterruptedException ignored) {
+                    interrupted.countDown()
+                }
+                return null
+            }
+        when:
+            Disposable subscription = reactive.fetchObject('me', Page).subscribe()
+            started.await(5, TimeUnit.SECONDS)
+            subscription.dispose()
+        then:
+            interrupted.await(5, TimeUnit.SECONDS)
+    }
+
+    void 'pagination stops once cancelled'() {
+        given:
+            FacebookClient facebookClient = Spy(DefaultFacebookClient)
+            Connection<String> first = new Connection<>(
+                facebookClient,
+                '{ "data" : ["one", "two", "three"], "paging" : { "next" : "https://example.com/foobar" } }',
+                String
+            )
+            ReactiveFacebookClient pages = new ReactiveFacebookClient(facebookClient, scheduler)
+        when:
+            List<String> items = pages.fetchItems('/foo', String).take(3).collectList().block()
+        then:
+            items == ['one', 'two', 'three']
+
+            1 * facebookClient.fetchConnection('/foo', String) >> first
+            0 * facebookClient.fetchConnectionPage(*_)
+    }
+
+    void 'reactive facade from groovy'() {
+        when:
+            ReactiveFacebookClient facade = client.reactive()
+        then:
+            facade.client.is(client)
+            facade.scheduler.is(FacebookSchedulers.default)
+    }
+
+    private static class TestContextElement implements PropagatedContextElement {
+
+        final String value
+
+        TestContextElement(String value) {
+            this.value = value
+        }
+
+    }
+
+}
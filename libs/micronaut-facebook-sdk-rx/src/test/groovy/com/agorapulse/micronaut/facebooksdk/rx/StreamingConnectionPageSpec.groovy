@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk.rx
+
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+@CompileDynamic
+class StreamingConnectionPageSpec extends Specification {
+
+    void 'data elements are read one by one'() {
+        given:
+            StreamingConnectionPage page = StreamingConnectionPage.parse('''{
+                "summary": { "total_count": 3, "nested": [1, 2, { "a": "b" }] },
+                "data": [
+                    { "id": "1", "values": [{ "value": 10 }, { "value": "}]" }] },
+                    null,
+                    "plain",
+                    42,
+                    [1, 2]
+                ],
+                "paging": {
+                    "cursors": { "before": "MQ", "after": "Mg" },
+                    "next": "https://graph.facebook.com/v19.0/123/insights?after=Mg"
+                }
+            }''')
+        expect:
+            page.nextElement() == '{ "id": "1", "values": [{ "value": 10 }, { "value": "}]" }] }'
+            page.nextElement() == 'plain'
+            page.nextElement() == '42'
+            page.nextElement() == '[1, 2]'
+            page.nextElement() == null
+            page.nextElement() == null
+            page.nextPageUrl == 'https://graph.facebook.com/v19.0/123/insights?after=Mg'
+    }
+
+    void 'paging can precede the data'() {
+        given:
+            StreamingConnectionPage page = StreamingConnectionPage.parse('{"paging":{"next":"https://example.com/next"},"data":[{"id":"1"}]}')
+        expect:
+            page.nextElement() == '{"id":"1"}'
+            page.nextElement() == null
+            page.nextPageUrl == 'https://example.com/next'
+    }
+
+    void 'empty page is the last one'() {
+        given:
+            StreamingConnectionPage page = StreamingConnectionPage.parse('{"data":[],"paging":{"next":"https://example.com/next"}}')
+        expect:
+            page.nextElement() == null
+            page.nextPageUrl == null
+    }
+
+    void 'next page url is split into object and parameters without credentials'() {
+        when:
+            StreamingConnectionPage.NextPage nextPage = StreamingConnectionPage.nextPage(
+                    'https://graph.facebook.com/v19.0/123/feed?access_token=secret&fields=id%2Cmessage&limit=25&after=QVFI%3D&appsecret_proof=proof'
+            )
+        then:
+            nextPage.object == '123/feed'
+            nextPage.parameters*.name == ['fields', 'limit', 'after']
+            nextPage.parameters*.value == ['id,message', '25', 'QVFI=']
+    }
+
+    void 'credentials are stripped from #url'() {
+        expect:
+            StreamingConnectionPage.stripCredentials(url) == expected
+        where:
+            url                                                                                 | expected
+            'https://graph.facebook.com/v19.0/123/feed?access_token=secret&limit=25&after=QVFI%3D' | 'https://graph.facebook.com/v19.0/123/feed?limit=25&after=QVFI%3D'
+            'https://graph.facebook.com/v19.0/123/feed?limit=25&appsecret_proof=proof'              | 'https://graph.facebook.com/v19.0/123/feed?limit=25'
+            'https://graph.facebook.com/v19.0/123/feed?access_token=secret'                         | 'https://graph.facebook.com/v19.0/123/feed'
+            'https://graph.facebook.com/v19.0/123/feed'                                             | 'https://graph.facebook.com/v19.0/123/feed'
+    }
+
+}
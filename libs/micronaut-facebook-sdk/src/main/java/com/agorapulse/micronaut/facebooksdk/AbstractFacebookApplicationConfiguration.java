@@ -19,9 +19,13 @@ package com.agorapulse.micronaut.facebooksdk;
 
 import com.restfb.Version;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,6 +41,61 @@ public abstract class AbstractFacebookApplicationConfiguration {
 
     private List<String> permissions = new ArrayList<>();
 
+    @Min(0)
+    private int clientCacheSize;
+
+    private Duration clientCacheTtl;
+
+    @Min(0)
+    @Max(100)
+    private int throttleThreshold = 75;
+
+    private Duration throttleMaxDelay;
+
+    @Min(1)
+    private int retryMaxAttempts = 1;
+
+    private Duration retryInitialDelay = FacebookRetryPolicy.DEFAULT_INITIAL_DELAY;
+
+    private Duration retryMaxDelay = FacebookRetryPolicy.DEFAULT_MAX_DELAY;
+
+    @DecimalMin("1")
+    private double retryMultiplier = FacebookRetryPolicy.DEFAULT_MULTIPLIER;
+
+    @DecimalMin("0")
+    @DecimalMax("1")
+    private double retryJitter = FacebookRetryPolicy.DEFAULT_JITTER;
+
+    private List<Integer> retryCodes = new ArrayList<>(FacebookRetryPolicy.DEFAULT_RETRYABLE_CODES);
+
+    private boolean retryPost;
+
+    @Min(0)
+    private int circuitBreakerWindowSize;
+
+    @Min(1)
+    private int circuitBreakerMinimumCalls = 10;
+
+    @Min(1)
+    @Max(100)
+    private int circuitBreakerFailureRateThreshold = 50;
+
+    private Duration circuitBreakerSlowCallDuration;
+
+    @Min(1)
+    @Max(100)
+    private int circuitBreakerSlowCallRateThreshold = 100;
+
+    private Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+
+    @Min(1)
+    private int circuitBreakerHalfOpenCalls = 3;
+
+    private List<Integer> circuitBreakerCodes = new ArrayList<>(FacebookRetryPolicy.DEFAULT_RETRYABLE_CODES);
+
+    @Min(0)
+    private int asyncMaxConcurrency = 100;
+
     public String getSecret() {
         return secret;
     }
@@ -83,6 +142,226 @@ public abstract class AbstractFacebookApplicationConfiguration {
         setVersion(version.getUrlElement());
     }
 
+    /**
+     * @return the maximum number of the clients cached by the application, {@code 0} disables the cache
+     */
+    public int getClientCacheSize() {
+        return clientCacheSize;
+    }
+
+    public void setClientCacheSize(int clientCacheSize) {
+        this.clientCacheSize = clientCacheSize;
+    }
+
+    /**
+     * @return the time after which the cached client is created again or {@code null} to keep the clients until evicted
+     */
+    public Duration getClientCacheTtl() {
+        return clientCacheTtl;
+    }
+
+    public void setClientCacheTtl(Duration clientCacheTtl) {
+        this.clientCacheTtl = clientCacheTtl;
+    }
+
+    /**
+     * @return the rate limit usage percentage when the requests start to be delayed
+     */
+    public int getThrottleThreshold() {
+        return throttleThreshold;
+    }
+
+    public void setThrottleThreshold(int throttleThreshold) {
+        this.throttleThreshold = throttleThreshold;
+    }
+
+    /**
+     * @return the maximum delay of a single request when the rate limit usage nears 100% or {@code null} to disable the throttling
+     */
+    public Duration getThrottleMaxDelay() {
+        return throttleMaxDelay;
+    }
+
+    public void setThrottleMaxDelay(Duration throttleMaxDelay) {
+        this.throttleMaxDelay = throttleMaxDelay;
+    }
+
+    /**
+     * @return the maximum number of the attempts of a single request including the first one, {@code 1} disables the retries
+     */
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public void setRetryMaxAttempts(int retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+    /**
+     * @return the delay before the first retry
+     */
+    public Duration getRetryInitialDelay() {
+        return retryInitialDelay;
+    }
+
+    public void setRetryInitialDelay(Duration retryInitialDelay) {
+        this.retryInitialDelay = retryInitialDelay;
+    }
+
+    /**
+     * @return the maximum delay between two attempts
+     */
+    public Duration getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public void setRetryMaxDelay(Duration retryMaxDelay) {
+        this.retryMaxDelay = retryMaxDelay;
+    }
+
+    /**
+     * @return the multiplier of the delay for each subsequent retry
+     */
+    public double getRetryMultiplier() {
+        return retryMultiplier;
+    }
+
+    public void setRetryMultiplier(double retryMultiplier) {
+        this.retryMultiplier = retryMultiplier;
+    }
+
+    /**
+     * @return the maximum fraction of the delay randomly subtracted from each delay
+     */
+    public double getRetryJitter() {
+        return retryJitter;
+    }
+
+    public void setRetryJitter(double retryJitter) {
+        this.retryJitter = retryJitter;
+    }
+
+    /**
+     * @return the Graph API error codes which are retried
+     */
+    public List<Integer> getRetryCodes() {
+        return retryCodes;
+    }
+
+    public void setRetryCodes(List<Integer> retryCodes) {
+        this.retryCodes = retryCodes;
+    }
+
+    /**
+     * @return whether the non-idempotent {@code POST} requests are retried as well
+     */
+    public boolean isRetryPost() {
+        return retryPost;
+    }
+
+    public void setRetryPost(boolean retryPost) {
+        this.retryPost = retryPost;
+    }
+
+    /**
+     * @return the number of the last calls of each endpoint family recorded by the circuit breaker, {@code 0} disables the circuit breaker
+     */
+    public int getCircuitBreakerWindowSize() {
+        return circuitBreakerWindowSize;
+    }
+
+    public void setCircuitBreakerWindowSize(int circuitBreakerWindowSize) {
+        this.circuitBreakerWindowSize = circuitBreakerWindowSize;
+    }
+
+    /**
+     * @return the minimum number of the recorded calls before the circuit can open
+     */
+    public int getCircuitBreakerMinimumCalls() {
+        return circuitBreakerMinimumCalls;
+    }
+
+    public void setCircuitBreakerMinimumCalls(int circuitBreakerMinimumCalls) {
+        this.circuitBreakerMinimumCalls = circuitBreakerMinimumCalls;
+    }
+
+    /**
+     * @return the percentage of the failed calls which opens the circuit
+     */
+    public int getCircuitBreakerFailureRateThreshold() {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    public void setCircuitBreakerFailureRateThreshold(int circuitBreakerFailureRateThreshold) {
+        this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+    }
+
+    /**
+     * @return the duration of the slow calls or {@code null} to ignore the slow calls
+     */
+    public Duration getCircuitBreakerSlowCallDuration() {
+        return circuitBreakerSlowCallDuration;
+    }
+
+    public void setCircuitBreakerSlowCallDuration(Duration circuitBreakerSlowCallDuration) {
+        this.circuitBreakerSlowCallDuration = circuitBreakerSlowCallDuration;
+    }
+
+    /**
+     * @return the percentage of the slow calls which opens the circuit
+     */
+    public int getCircuitBreakerSlowCallRateThreshold() {
+        return circuitBreakerSlowCallRateThreshold;
+    }
+
+    public void setCircuitBreakerSlowCallRateThreshold(int circuitBreakerSlowCallRateThreshold) {
+        this.circuitBreakerSlowCallRateThreshold = circuitBreakerSlowCallRateThreshold;
+    }
+
+    /**
+     * @return the time before the open circuit lets the probing calls through
+     */
+    public Duration getCircuitBreakerOpenDuration() {
+        return circuitBreakerOpenDuration;
+    }
+
+    public void setCircuitBreakerOpenDuration(Duration circuitBreakerOpenDuration) {
+        this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+    }
+
+    /**
+     * @return the number of the probing calls which must succeed to close the circuit
+     */
+    public int getCircuitBreakerHalfOpenCalls() {
+        return circuitBreakerHalfOpenCalls;
+    }
+
+    public void setCircuitBreakerHalfOpenCalls(int circuitBreakerHalfOpenCalls) {
+        this.circuitBreakerHalfOpenCalls = circuitBreakerHalfOpenCalls;
+    }
+
+    /**
+     * @return the Graph API error codes counted as failures by the circuit breaker
+     */
+    public List<Integer> getCircuitBreakerCodes() {
+        return circuitBreakerCodes;
+    }
+
+    public void setCircuitBreakerCodes(List<Integer> circuitBreakerCodes) {
+        this.circuitBreakerCodes = circuitBreakerCodes;
+    }
+
+    /**
+     * @return the maximum number of the calls of the asynchronous clients in flight at the same time, {@code 0} for no limit
+     */
+    public int getAsyncMaxConcurrency() {
+        return asyncMaxConcurrency;
+    }
+
+    public void setAsyncMaxConcurrency(int asyncMaxConcurrency) {
+        this.asyncMaxConcurrency = asyncMaxConcurrency;
+    }
+
     @Override
     public String toString() {
         return "FacebookApplicationConfiguration[id:'" + id + "', permissions:" + permissions + "]";
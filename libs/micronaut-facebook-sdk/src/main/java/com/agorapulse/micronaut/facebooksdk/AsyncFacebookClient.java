@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.BinaryAttachment;
+import com.restfb.Connection;
+import com.restfb.FacebookClient;
+import com.restfb.Parameter;
+import com.restfb.batch.BatchRequest;
+import com.restfb.batch.BatchResponse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Asynchronous facade of {@link FacebookClient}.
+ * <p>
+ * Every call runs on its own virtual thread by default so thousands of calls can be in flight without managing any
+ * thread pool. The number of the calls executed at the same time can be limited by the permits shared by all the
+ * clients of the application, see {@link AbstractFacebookApplicationConfiguration#getAsyncMaxConcurrency()}. The calls
+ * waiting for the permit only hold a parked virtual thread. The returned futures are completed exceptionally with
+ * {@link com.restfb.exception.FacebookException} if the API call fails. The call which has not been started yet is
+ * skipped if its future has been already completed or cancelled.
+ */
+public class AsyncFacebookClient {
+
+    private static final Executor VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("facebook-async-client-", 0).factory());
+
+    private final FacebookClient client;
+    private final Executor executor;
+    private final Semaphore permits;
+
+    /**
+     * Creates the client running each call on its own virtual thread without any concurrency limit.
+     *
+     * @param client the blocking client
+     */
+    public AsyncFacebookClient(FacebookClient client) {
+        this(client, VIRTUAL_THREADS, null);
+    }
+
+    /**
+     * @param client   the blocking client
+     * @param executor the executor running the calls
+     * @param permits  the permits limiting the number of the concurrent calls or {@code null} for no limit
+     */
+    public AsyncFacebookClient(FacebookClient client, Executor executor, Semaphore permits) {
+        this.client = client;
+        this.executor = executor == null ? VIRTUAL_THREADS : executor;
+        this.permits = permits;
+    }
+
+    /**
+     * Creates the client running each call on its own virtual thread with at most {@code maxConcurrency} calls in flight.
+     *
+     * @param client         the blocking client
+     * @param maxConcurrency the maximum number of the concurrent calls, {@code 0} for no limit
+     * @return the asynchronous client
+     */
+    public static AsyncFacebookClient create(FacebookClient client, int maxConcurrency) {
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Maximum concurrency must not be negative but was " + maxConcurrency);
+        }
+        return new AsyncFacebookClient(client, VIRTUAL_THREADS, maxConcurrency == 0 ? null : new Semaphore(maxConcurrency, true));
+    }
+
+    /**
+     * @return the blocking client executing the calls
+     */
+    public FacebookClient getClient() {
+        return client;
+    }
+
+    /**
+     * Fetches a single <a href="http://developers.facebook.com/docs/reference/api/">Graph API object</a>, mapping the
+     * result to an instance of {@code objectType}.
+     *
+     * @param <T>        Java type to map to.
+     * @param object     ID of the object to fetch, e.g. {@code "me"}.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call (optional).
+     * @return future instance of type {@code objectType} which contains the requested object's data.
+     */
+    public <T> CompletableFuture<T> fetchObject(String object, Class<T> objectType, Parameter... parameters) {
+        return execute(c -> c.fetchObject(object, objectType, parameters));
+    }
+
+    /**
+     * Fetches a Graph API {@code Connection} type, mapping the result to an instance of {@code connectionType}.
+     *
+     * @param <T>            Java type to map to.
+     * @param connection     The name of the connection, e.g. {@code "me/feed"}.
+     * @param connectionType Connection type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @return future instance of type {@code connectionType} which contains the requested Connection's data.
+     */
+    public <T> CompletableFuture<Connection<T>> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+        return execute(c -> c.fetchConnection(connection, connectionType, parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#publishing">Graph API publish</a> operation on the
+     * given {@code connection}, mapping the result to an instance of {@code objectType}.
+     *
+     * @param <T>        Java type to map to.
+     * @param connection The Connection to publish to.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call.
+     * @return future instance of type {@code objectType} which contains the Facebook response to your publish request.
+     */
+    public <T> CompletableFuture<T> publish(String connection, Class<T> objectType, Parameter... parameters) {
+        return execute(c -> c.publish(connection, objectType, parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#publishing">Graph API publish</a> operation on the
+     * given {@code connection} and includes some files - photos, for example - in the publish request, and mapping the
+     * result to an instance of {@code objectType}.
+     *
+     * @param <T>               Java type to map to.
+     * @param connection        The Connection to publish to.
+     * @param objectType        Object type token.
+     * @param binaryAttachments The files to include in the publish request.
+     * @param parameters        URL parameters to include in the API call.
+     * @return future instance of type {@code objectType} which contains the Facebook response to your publish request.
+     */
+    public <T> CompletableFuture<T> publish(String connection, Class<T> objectType, List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
+        return execute(c -> c.publish(connection, objectType, binaryAttachments, parameters));
+    }
+
+    /**
+     * Performs a <a href="http://developers.facebook.com/docs/api#deleting">Graph API delete</a> operation on the given
+     * {@code object}.
+     *
+     * @param object     The ID of the object to delete.
+     * @param parameters URL parameters to include in the API call.
+     * @return future completed with {@code true} if Facebook indicated that the object was successfully deleted, {@code false} otherwise.
+     */
+    public CompletableFuture<Boolean> deleteObject(String object, Parameter... parameters) {
+        return execute(c -> c.deleteObject(object, parameters));
+    }
+
+    /**
+     * Executes operations as a batch using the <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     *
+     * @param batchRequests The operations to execute.
+     * @return future list of the responses in the order of the requests.
+     */
+    public CompletableFuture<List<BatchResponse>> executeBatch(BatchRequest... batchRequests) {
+        return executeBatch(Arrays.asList(batchRequests));
+    }
+
+    /**
+     * Executes operations as a batch using the <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     *
+     * @param batchRequests The operations to execute.
+     * @return future list of the responses in the order of the requests.
+     */
+    public CompletableFuture<List<BatchResponse>> executeBatch(List<BatchRequest> batchRequests) {
+        return executeBatch(batchRequests, Collections.emptyList());
+    }
+
+    /**
+     * Executes operations as a batch with binary attachments using the
+     * <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch API</a>.
+     *
+     * @param batchRequests     The operations to execute.
+     * @param binaryAttachments Binary attachments referenced by the batch requests.
+     * @return future list of the responses in the order of the requests.
+     */
+    public CompletableFuture<List<BatchResponse>> executeBatch(List<BatchRequest> batchRequests, List<BinaryAttachment> binaryAttachments) {
+        return execute(c -> c.executeBatch(batchRequests, binaryAttachments));
+    }
+
+    /**
+     * Executes any call of the blocking client asynchronously, e.g. the calls without a dedicated method.
+     *
+     * @param <T>  the type of the result
+     * @param call the call of the blocking client
+     * @return future result of the call
+     */
+    public <T> CompletableFuture<T> execute(Function<FacebookClient, T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(call, result));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncFacebookClient[client:" + client + "]";
+    }
+
+    private <T> void run(Function<FacebookClient, T> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+                return;
+            }
+        }
+
+        T value = null;
+        Throwable failure = null;
+        try {
+            if (!result.isDone()) {
+                value = call.apply(client);
+            }
+        } catch (Throwable th) {
+            failure = th;
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+
+        // completed after the permit is released so the dependent stages running on this thread never hold it
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(value);
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.WebRequestor;
+import com.restfb.json.JsonObject;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * {@link WebRequestor} guarding the delegate with the {@link FacebookCircuitBreaker} of the application.
+ * <p>
+ * The endpoint family is the last segment of the endpoint which is not an ID, e.g. {@code feed} for
+ * {@code /{id}/feed} or {@code page_fans} for {@code /{id}/insights/page_fans}. The calls of the single segment
+ * endpoints such as the objects belong to the {@code object} family and the batch requests to the {@code batch}
+ * family. If the circuit is open, {@link FacebookCircuitBreakerOpenException} is thrown without calling the delegate.
+ */
+public class CircuitBreakingWebRequestor implements DelegatingWebRequestor {
+
+    static final String OBJECT_FAMILY = "object";
+    static final String BATCH_FAMILY = "batch";
+
+    @FunctionalInterface
+    private interface Execution {
+        Response execute(Request request) throws IOException;
+    }
+
+    private final WebRequestor delegate;
+    private final FacebookCircuitBreaker circuitBreaker;
+
+    /**
+     * @param delegate       the requestor executing the requests
+     * @param circuitBreaker the circuit breaker of the application
+     */
+    public CircuitBreakingWebRequestor(WebRequestor delegate, FacebookCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Response executeGet(Request request) throws IOException {
+        return execute("GET", request, delegate::executeGet);
+    }
+
+    @Override
+    public Response executePost(Request request) throws IOException {
+        return execute("POST", request, delegate::executePost);
+    }
+
+    @Override
+    public Response executeDelete(Request request) throws IOException {
+        return execute("DELETE", request, delegate::executeDelete);
+    }
+
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return delegate.getDebugHeaderInfo();
+    }
+
+    @Override
+    public WebRequestor getDelegate() {
+        return delegate;
+    }
+
+    public FacebookCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @param method the HTTP method
+     * @param url    the request URL
+     * @return the endpoint family of the request
+     */
+    static String family(String method, String url) {
+        String endpoint = InstrumentedWebRequestor.endpoint(url);
+        String[] segments = endpoint.substring(1).split("/");
+
+        if (segments.length > 1) {
+            for (int i = segments.length - 1; i >= 0; i--) {
+                String segment = segments[i];
+                if (!segment.endsWith("{id}") && !"me".equals(segment)) {
+                    return segment;
+                }
+            }
+        }
+
+        // restfb posts the batches to the root of the API
+        return "POST".equals(method) && "/".equals(endpoint) ? BATCH_FAMILY : OBJECT_FAMILY;
+    }
+
+    private Response execute(String method, Request request, Execution execution) throws IOException {
+        String family = family(method, request.getUrl());
+        circuitBreaker.acquirePermission(family);
+
+        long start = System.nanoTime();
+        boolean failure = true;
+        try {
+            Response response = execution.execute(request);
+            failure = isFailure(response);
+            return response;
+        } finally {
+            circuitBreaker.onResult(family, Duration.ofNanos(System.nanoTime() - start), failure);
+        }
+    }
+
+    private boolean isFailure(Response response) {
+        int statusCode = response.getStatusCode() == null ? -1 : response.getStatusCode();
+        if (statusCode < 400) {
+            return false;
+        }
+
+        Integer errorCode = null;
+        if (response.getBody() != null) {
+            JsonObject error = InstrumentedWebRequestor.readError(response.getBody());
+            if (error != null) {
+                errorCode = InstrumentedWebRequestor.readInt(error, "code");
+            }
+        }
+
+        return circuitBreaker.isFailure(statusCode, errorCode);
+    }
+
+}
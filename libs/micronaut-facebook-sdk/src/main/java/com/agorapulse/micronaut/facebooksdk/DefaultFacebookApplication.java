@@ -17,16 +17,55 @@
  */
 package com.agorapulse.micronaut.facebooksdk;
 
-import com.restfb.DefaultFacebookClient;
 import com.restfb.FacebookClient;
 import com.restfb.Version;
+import com.restfb.WebRequestor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 public class DefaultFacebookApplication implements FacebookApplication {
 
     private final FacebookApplicationConfiguration configuration;
+    private final FacebookClientProvider clients;
 
     public DefaultFacebookApplication(FacebookApplicationConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * @param configuration application configuration
+     * @param webRequestor  the requestor shared by all the clients or {@code null} to let each client create its own
+     */
+    public DefaultFacebookApplication(FacebookApplicationConfiguration configuration, WebRequestor webRequestor) {
+        this(configuration, webRequestor, Collections.emptyList());
+    }
+
+    /**
+     * @param configuration    application configuration
+     * @param webRequestor     the requestor shared by all the clients or {@code null} to let each client create its own
+     * @param requestListeners the listeners notified about every request made by the clients
+     */
+    public DefaultFacebookApplication(FacebookApplicationConfiguration configuration, WebRequestor webRequestor, List<FacebookRequestListener> requestListeners) {
+        this(configuration, webRequestor, requestListeners, null);
+    }
+
+    /**
+     * @param configuration    application configuration
+     * @param webRequestor     the requestor shared by all the clients or {@code null} to let each client create its own
+     * @param requestListeners the listeners notified about every request made by the clients
+     * @param usageTracker     the tracker of the rate limit usage or {@code null} to disable the tracking and the throttling,
+     *                         the usage is only tracked if the throttling is enabled or the tracker has any listeners
+     */
+    public DefaultFacebookApplication(
+        FacebookApplicationConfiguration configuration,
+        WebRequestor webRequestor,
+        List<FacebookRequestListener> requestListeners,
+        FacebookUsageTracker usageTracker
+    ) {
         this.configuration = configuration;
+        this.clients = new FacebookClientProvider(configuration, webRequestor, requestListeners, usageTracker);
     }
 
     /**
@@ -68,7 +107,32 @@ public class DefaultFacebookApplication implements FacebookApplication {
      * @return a Facebook Graph API client with the given {@code accessToken}.
      */
     public FacebookClient createClient(String accessToken, String appSecret, Version apiVersion) {
-        return SecretSafeFacebookClient.wrap(new DefaultFacebookClient(accessToken, appSecret, apiVersion));
+        return clients.createClient(accessToken, appSecret, apiVersion);
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @param appSecret   A Facebook application secret.
+     * @param apiVersion  Version of the api endpoint
+     * @return an asynchronous Facebook Graph API client sharing the concurrency limit with all the other asynchronous clients of the application.
+     */
+    @Override
+    public AsyncFacebookClient createAsyncClient(String accessToken, String appSecret, Version apiVersion) {
+        return clients.createAsyncClient(accessToken, appSecret, apiVersion);
+    }
+
+    /**
+     * @return the cache of the clients if enabled using {@link AbstractFacebookApplicationConfiguration#getClientCacheSize()}
+     */
+    public Optional<FacebookClientCache> getClientCache() {
+        return clients.getClientCache();
+    }
+
+    /**
+     * @return the circuit breaker shared by all the clients if enabled using {@link AbstractFacebookApplicationConfiguration#getCircuitBreakerWindowSize()}
+     */
+    public Optional<FacebookCircuitBreaker> getCircuitBreaker() {
+        return clients.getCircuitBreaker();
     }
 
     /**
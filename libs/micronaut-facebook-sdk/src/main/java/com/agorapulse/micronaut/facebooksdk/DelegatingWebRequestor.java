@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.WebRequestor;
+
+/**
+ * {@link WebRequestor} decorating another requestor, for example to instrument, throttle or retry the requests.
+ */
+public interface DelegatingWebRequestor extends WebRequestor {
+
+    /**
+     * Returns the innermost requestor which is not decorating any other requestor.
+     *
+     * @param requestor the requestor which may be decorated
+     * @return the requestor actually executing the requests
+     */
+    static WebRequestor unwrap(WebRequestor requestor) {
+        WebRequestor current = requestor;
+        while (current instanceof DelegatingWebRequestor delegating) {
+            current = delegating.getDelegate();
+        }
+        return current;
+    }
+
+    /**
+     * @return the decorated requestor
+     */
+    WebRequestor getDelegate();
+
+}
@@ -62,6 +62,39 @@ public interface FacebookApplication {
      */
     FacebookClient createClient(String accessToken, String appSecret, Version apiVersion);
 
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @return an asynchronous Facebook Graph API client with API version from the configuration.
+     */
+    default AsyncFacebookClient createAsyncClient(String accessToken) {
+        return createAsyncClient(accessToken, getConfiguration().getSecret(), getConfiguration().getApiVersion());
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @param apiVersion  Version of the api endpoint
+     * @return an asynchronous Facebook Graph API client with the given {@code accessToken}.
+     */
+    default AsyncFacebookClient createAsyncClient(String accessToken, Version apiVersion) {
+        return createAsyncClient(accessToken, getConfiguration().getSecret(), apiVersion);
+    }
+
+    /**
+     * Creates an asynchronous client.
+     * <p>
+     * The concurrency limit set by {@link AbstractFacebookApplicationConfiguration#getAsyncMaxConcurrency()} is meant
+     * to be shared by all the asynchronous clients of the application. The default implementation cannot keep any state
+     * so it limits each client separately, the implementations should override this method to share the permits.
+     *
+     * @param accessToken A Facebook OAuth access token.
+     * @param appSecret   A Facebook application secret.
+     * @param apiVersion  Version of the api endpoint
+     * @return an asynchronous Facebook Graph API client with the given {@code accessToken}.
+     */
+    default AsyncFacebookClient createAsyncClient(String accessToken, String appSecret, Version apiVersion) {
+        return AsyncFacebookClient.create(createClient(accessToken, appSecret, apiVersion), getConfiguration().getAsyncMaxConcurrency());
+    }
+
     /**
      * @return application configuration
      */
@@ -0,0 +1,305 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breaker of the Graph API calls of a single application, kept separately for each endpoint family such as
+ * {@code feed}, {@code insights} or {@code batch}.
+ * <p>
+ * The outcomes of the last {@code windowSize} calls of the family are recorded. Once at least {@code minimumCalls}
+ * were recorded and either the percentage of the failed calls reaches {@code failureRateThreshold} or the percentage
+ * of the calls slower than {@code slowCallDuration} reaches {@code slowCallRateThreshold}, the circuit opens and
+ * the calls fail fast with {@link FacebookCircuitBreakerOpenException}. After {@code openDuration} the circuit is
+ * half-open and lets {@code halfOpenCalls} probing calls through. The circuit closes if all of them succeed and opens
+ * again after the first failure.
+ * <p>
+ * The I/O errors, the {@code 5xx} responses and the error responses with one of the failure codes are failures,
+ * other error responses such as invalid tokens are not.
+ * <p>
+ * At most {@link #MAX_FAMILIES} families are tracked, the calls of any further family share the {@link #OTHER_FAMILY} circuit.
+ */
+public class FacebookCircuitBreaker {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public static final int MAX_FAMILIES = 100;
+    public static final String OTHER_FAMILY = "other";
+
+    private final Long applicationId;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slowCallRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Set<Integer> failureCodes;
+    private final Clock clock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * @param applicationId         the ID of the application
+     * @param windowSize            the number of the last calls recorded
+     * @param minimumCalls          the minimum number of the calls recorded before the circuit can open
+     * @param failureRateThreshold  the percentage of the failed calls which opens the circuit
+     * @param slowCallDuration      the duration of the slow calls or {@code null} to ignore the slow calls
+     * @param slowCallRateThreshold the percentage of the slow calls which opens the circuit
+     * @param openDuration          the time before the open circuit lets the probing calls through
+     * @param halfOpenCalls         the number of the probing calls
+     * @param failureCodes          the Graph API error codes considered to be failures
+     */
+    public FacebookCircuitBreaker(
+        Long applicationId,
+        int windowSize,
+        int minimumCalls,
+        int failureRateThreshold,
+        Duration slowCallDuration,
+        int slowCallRateThreshold,
+        Duration openDuration,
+        int halfOpenCalls,
+        Collection<Integer> failureCodes
+    ) {
+        this(applicationId, windowSize, minimumCalls, failureRateThreshold, slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls, failureCodes, Clock.systemUTC());
+    }
+
+    FacebookCircuitBreaker(
+        Long applicationId,
+        int windowSize,
+        int minimumCalls,
+        int failureRateThreshold,
+        Duration slowCallDuration,
+        int slowCallRateThreshold,
+        Duration openDuration,
+        int halfOpenCalls,
+        Collection<Integer> failureCodes,
+        Clock clock
+    ) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1 but was " + windowSize);
+        }
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Half-open calls must be at least 1 but was " + halfOpenCalls);
+        }
+        this.applicationId = applicationId;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failureCodes = Set.copyOf(failureCodes);
+        this.clock = clock;
+    }
+
+    /**
+     * Creates the circuit breaker from the settings of the application configuration.
+     *
+     * @param configuration the application configuration
+     * @return the circuit breaker of the application
+     */
+    public static FacebookCircuitBreaker of(AbstractFacebookApplicationConfiguration configuration) {
+        return new FacebookCircuitBreaker(
+            configuration.getId(),
+            configuration.getCircuitBreakerWindowSize(),
+            configuration.getCircuitBreakerMinimumCalls(),
+            configuration.getCircuitBreakerFailureRateThreshold(),
+            configuration.getCircuitBreakerSlowCallDuration(),
+            configuration.getCircuitBreakerSlowCallRateThreshold(),
+            configuration.getCircuitBreakerOpenDuration(),
+            configuration.getCircuitBreakerHalfOpenCalls(),
+            configuration.getCircuitBreakerCodes()
+        );
+    }
+
+    /**
+     * Checks whether the call of the given endpoint family is permitted.
+     *
+     * @param family the endpoint family
+     * @throws FacebookCircuitBreakerOpenException if the circuit is open or all the probing calls are already in progress
+     */
+    public void acquirePermission(String family) {
+        Duration retryAfter = circuit(family).acquire();
+        if (retryAfter != null) {
+            throw new FacebookCircuitBreakerOpenException(applicationId, family, retryAfter);
+        }
+    }
+
+    /**
+     * Records the outcome of the permitted call.
+     *
+     * @param family   the endpoint family
+     * @param duration the duration of the call
+     * @param failure  whether the call failed
+     */
+    public void onResult(String family, Duration duration, boolean failure) {
+        circuit(family).record(failure, slowCallDuration != null && duration.compareTo(slowCallDuration) > 0);
+    }
+
+    /**
+     * @param statusCode the HTTP status code of the response
+     * @param errorCode  the Graph API error code or {@code null}
+     * @return whether the response is a failure
+     */
+    public boolean isFailure(int statusCode, Integer errorCode) {
+        return statusCode >= 500 || errorCode != null && failureCodes.contains(errorCode);
+    }
+
+    /**
+     * @param family the endpoint family
+     * @return the current state of the circuit of the endpoint family
+     */
+    public State getState(String family) {
+        Circuit circuit = circuits.get(family);
+        if (circuit == null && circuits.size() >= MAX_FAMILIES) {
+            circuit = circuits.get(OTHER_FAMILY);
+        }
+        return circuit == null ? State.CLOSED : circuit.getState();
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookCircuitBreaker[applicationId:" + applicationId + ", windowSize:" + windowSize + ", failureRateThreshold:"
+            + failureRateThreshold + ", slowCallDuration:" + slowCallDuration + ", openDuration:" + openDuration + "]";
+    }
+
+    private Circuit circuit(String family) {
+        Circuit circuit = circuits.get(family);
+        if (circuit != null) {
+            return circuit;
+        }
+        // the families are derived from the URLs so keep their number bounded
+        return circuits.computeIfAbsent(circuits.size() < MAX_FAMILIES ? family : OTHER_FAMILY, f -> new Circuit());
+    }
+
+    private final class Circuit {
+
+        private final boolean[] failures = new boolean[windowSize];
+        private final boolean[] slowCalls = new boolean[windowSize];
+        private State state = State.CLOSED;
+        private int next;
+        private int recorded;
+        private int failureCount;
+        private int slowCount;
+        private long openedAt;
+        private int probes;
+        private int succeededProbes;
+
+        /**
+         * @return {@code null} if the call is permitted, otherwise the time until the circuit is half-open
+         */
+        synchronized Duration acquire() {
+            if (state == State.OPEN) {
+                long remaining = openedAt + openDuration.toMillis() - clock.millis();
+                if (remaining > 0) {
+                    return Duration.ofMillis(remaining);
+                }
+                state = State.HALF_OPEN;
+                probes = 0;
+                succeededProbes = 0;
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (probes >= halfOpenCalls) {
+                    return Duration.ZERO;
+                }
+                probes++;
+            }
+
+            return null;
+        }
+
+        synchronized void record(boolean failure, boolean slow) {
+            if (state == State.HALF_OPEN) {
+                if (failure || slow) {
+                    open();
+                } else if (++succeededProbes >= halfOpenCalls) {
+                    close();
+                }
+                return;
+            }
+
+            if (state == State.OPEN) {
+                // the call was permitted before the circuit opened
+                return;
+            }
+
+            if (recorded == windowSize) {
+                failureCount -= failures[next] ? 1 : 0;
+                slowCount -= slowCalls[next] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+
+            failures[next] = failure;
+            slowCalls[next] = slow;
+            failureCount += failure ? 1 : 0;
+            slowCount += slow ? 1 : 0;
+            next = (next + 1) % windowSize;
+
+            if (recorded < minimumCalls) {
+                return;
+            }
+
+            boolean failureRateExceeded = failureCount > 0 && failureCount * 100 >= failureRateThreshold * recorded;
+            boolean slowCallRateExceeded = slowCount > 0 && slowCount * 100 >= slowCallRateThreshold * recorded;
+
+            if (failureRateExceeded || slowCallRateExceeded) {
+                open();
+            }
+        }
+
+        synchronized State getState() {
+            if (state == State.OPEN && clock.millis() - openedAt >= openDuration.toMillis()) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = clock.millis();
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            next = 0;
+            recorded = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.exception.FacebookException;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of calling the Graph API when the {@link FacebookCircuitBreaker} of the endpoint family is open.
+ */
+public class FacebookCircuitBreakerOpenException extends FacebookException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long applicationId;
+    private final String family;
+    private final Duration retryAfter;
+
+    public FacebookCircuitBreakerOpenException(Long applicationId, String family, Duration retryAfter) {
+        super("Circuit breaker of application " + applicationId + " is open for '" + family + "' endpoints, retry after " + retryAfter);
+        this.applicationId = applicationId;
+        this.family = family;
+        this.retryAfter = retryAfter;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return the endpoint family, e.g. {@code feed}, {@code insights} or {@code batch}
+     */
+    public String getFamily() {
+        return family;
+    }
+
+    /**
+     * @return the time until the circuit lets the probing calls through, {@link Duration#ZERO} if it is already half-open
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of {@link FacebookClient} instances keyed by the access token, the app secret and the API version.
+ * <p>
+ * The least recently used clients are evicted when the maximum size is reached and every client expires after
+ * the optional time to live since it has been created. The tokens and the secrets are never stored in the keys,
+ * only their SHA-256 digest is.
+ */
+public class FacebookClientCache {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize   the maximum number of the cached clients
+     * @param timeToLive    the time after which the client is created again or {@code null} to keep the clients until evicted
+     */
+    public FacebookClientCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, System::nanoTime);
+    }
+
+    FacebookClientCache(int maximumSize, Duration timeToLive, LongSupplier ticker) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive but was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive == null || timeToLive.isZero() || timeToLive.isNegative() ? Long.MAX_VALUE : timeToLive.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > FacebookClientCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached client or creates a new one using the given factory.
+     *
+     * @param accessToken   A Facebook OAuth access token.
+     * @param appSecret     A Facebook application secret.
+     * @param apiVersion    Version of the api endpoint
+     * @param factory       factory creating the client if there is no valid client cached
+     * @return the cached or newly created client
+     */
+    public FacebookClient get(String accessToken, String appSecret, Version apiVersion, Supplier<FacebookClient> factory) {
+        String key = key(accessToken, appSecret, apiVersion);
+        long now = ticker.getAsLong();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now, timeToLiveNanos)) {
+                hits.increment();
+                return entry.client;
+            }
+
+            if (entry != null) {
+                evictions.increment();
+            }
+
+            misses.increment();
+            FacebookClient client = factory.get();
+            entries.put(key, new Entry(client, now));
+            return client;
+        }
+    }
+
+    /**
+     * Removes all the expired clients.
+     */
+    public void cleanUp() {
+        long now = ticker.getAsLong();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now, timeToLiveNanos)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the clients.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of the requests served from the cache or {@code 0} if there were no requests yet
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookClientCache[size:" + size() + ", maximumSize:" + maximumSize + ", hits:" + getHitCount() + ", misses:" + getMissCount() + "]";
+    }
+
+    private static String key(String accessToken, String appSecret, Version apiVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, accessToken);
+            update(digest, appSecret);
+            return apiVersion.getUrlElement() + ':' + Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update((byte) 1);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // separator preventing collisions such as ("ab", "c") and ("a", "bc")
+        digest.update((byte) 0);
+    }
+
+    private static final class Entry {
+
+        private final FacebookClient client;
+        private final long createdAt;
+
+        Entry(FacebookClient client, long createdAt) {
+            this.client = client;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now, long timeToLiveNanos) {
+            return now - createdAt >= timeToLiveNanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DefaultFacebookClient;
+import com.restfb.DefaultJsonMapper;
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+import com.restfb.WebRequestor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Creates the clients of a single application, either the default one or one of the named applications, decorated
+ * according to its configuration and keeps the state shared by all of them such as the cache, the circuit breaker
+ * and the permits of the asynchronous clients.
+ */
+final class FacebookClientProvider {
+
+    private final AbstractFacebookApplicationConfiguration configuration;
+    private final WebRequestor webRequestor;
+    private final FacebookClientCache clientCache;
+    private final List<FacebookRequestListener> requestListeners;
+    private final FacebookUsageTracker usageTracker;
+    private final boolean usageTracked;
+    private final FacebookCircuitBreaker circuitBreaker;
+    private final Semaphore asyncPermits;
+
+    FacebookClientProvider(
+        AbstractFacebookApplicationConfiguration configuration,
+        WebRequestor webRequestor,
+        List<FacebookRequestListener> requestListeners,
+        FacebookUsageTracker usageTracker
+    ) {
+        this.configuration = configuration;
+        this.webRequestor = webRequestor;
+        this.requestListeners = List.copyOf(requestListeners);
+        this.usageTracker = usageTracker;
+        this.usageTracked = usageTracker != null && (isThrottled(configuration) || usageTracker.hasListeners());
+        this.clientCache = configuration.getClientCacheSize() > 0
+            ? new FacebookClientCache(configuration.getClientCacheSize(), configuration.getClientCacheTtl())
+            : null;
+        this.circuitBreaker = configuration.getCircuitBreakerWindowSize() > 0
+            ? FacebookCircuitBreaker.of(configuration)
+            : null;
+        this.asyncPermits = configuration.getAsyncMaxConcurrency() > 0
+            ? new Semaphore(configuration.getAsyncMaxConcurrency(), true)
+            : null;
+    }
+
+    FacebookClient createClient(String accessToken, String appSecret, Version apiVersion) {
+        if (clientCache != null) {
+            return clientCache.get(accessToken, appSecret, apiVersion, () -> newClient(accessToken, appSecret, apiVersion));
+        }
+        return newClient(accessToken, appSecret, apiVersion);
+    }
+
+    AsyncFacebookClient createAsyncClient(String accessToken, String appSecret, Version apiVersion) {
+        return new AsyncFacebookClient(createClient(accessToken, appSecret, apiVersion), null, asyncPermits);
+    }
+
+    Optional<FacebookClientCache> getClientCache() {
+        return Optional.ofNullable(clientCache);
+    }
+
+    Optional<FacebookCircuitBreaker> getCircuitBreaker() {
+        return Optional.ofNullable(circuitBreaker);
+    }
+
+    private FacebookClient newClient(String accessToken, String appSecret, Version apiVersion) {
+        if (webRequestor == null && requestListeners.isEmpty() && !usageTracked && circuitBreaker == null && configuration.getRetryMaxAttempts() <= 1) {
+            return SecretSafeFacebookClient.wrap(new DefaultFacebookClient(accessToken, appSecret, apiVersion));
+        }
+        return SecretSafeFacebookClient.wrap(new DefaultFacebookClient(accessToken, appSecret, decorate(webRequestor, apiVersion), new DefaultJsonMapper(), apiVersion));
+    }
+
+    private WebRequestor decorate(WebRequestor requestor, Version apiVersion) {
+        WebRequestor decorated = requestor == null ? new HeaderAwareWebRequestor() : requestor;
+
+        if (!requestListeners.isEmpty()) {
+            decorated = new InstrumentedWebRequestor(decorated, configuration.getId(), apiVersion, requestListeners);
+        }
+
+        if (circuitBreaker != null) {
+            decorated = new CircuitBreakingWebRequestor(decorated, circuitBreaker);
+        }
+
+        if (usageTracked) {
+            decorated = new ThrottlingWebRequestor(
+                decorated,
+                configuration.getId(),
+                usageTracker,
+                configuration.getThrottleThreshold(),
+                configuration.getThrottleMaxDelay() == null ? Duration.ZERO : configuration.getThrottleMaxDelay()
+            );
+        }
+
+        if (configuration.getRetryMaxAttempts() > 1) {
+            decorated = new RetryingWebRequestor(decorated, configuration.getId(), FacebookRetryPolicy.of(configuration), requestListeners);
+        }
+
+        return decorated;
+    }
+
+    private static boolean isThrottled(AbstractFacebookApplicationConfiguration configuration) {
+        Duration maxDelay = configuration.getThrottleMaxDelay();
+        return maxDelay != null && !maxDelay.isZero() && !maxDelay.isNegative();
+    }
+
+}
@@ -32,6 +32,13 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 import static com.restfb.util.ObjectUtil.verifyParameterPresence;
 import static java.util.Arrays.asList;
@@ -44,6 +51,8 @@ import static java.util.Arrays.asList;
 public class FacebookExtensions {
 
     private static final int BATCH_SIZE = 20;
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final Executor VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("facebook-sdk-", 0).factory());
 
     /**
      * Fetches a single <a href="http://developers.facebook.com/docs/reference/api/">Graph API object</a>, mapping the
@@ -111,6 +120,89 @@ public class FacebookExtensions {
         return objects;
     }
 
+    /**
+     * Fetches multiple <a href="http://developers.facebook.com/docs/reference/api/">Graph API objects</a> in parallel,
+     * mapping the results to an instance of {@code objectType}.
+     * <p>
+     * The ids are split into the chunks of the maximum batch size and up to eight chunks are
+     * fetched at the same time using virtual threads. The objects are returned in the order of the {@code ids}.
+     *
+     * @param <T>        Java type to map to.
+     * @param ids        IDs of the objects to fetch, e.g. {@code "me", "arjun"}.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call (optional).
+     * @return An instance of type {@code objectType} which contains the requested objects' data.
+     * @throws FacebookException If an error occurs while performing the API call.
+     * @see #fetchAll(FacebookClient, List, Class, Map)
+     */
+    public static <T> Map<String, T> fetchAllParallel(FacebookClient client, List<String> ids, Class<T> objectType, Map<String, Object> parameters) {
+        return fetchAllParallel(client, ids, objectType, parameters, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Fetches multiple <a href="http://developers.facebook.com/docs/reference/api/">Graph API objects</a> in parallel
+     * using virtual threads, mapping the results to an instance of {@code objectType}.
+     *
+     * @param <T>            Java type to map to.
+     * @param ids            IDs of the objects to fetch, e.g. {@code "me", "arjun"}.
+     * @param objectType     Object type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param maxConcurrency Maximum number of the API calls in flight.
+     * @return An instance of type {@code objectType} which contains the requested objects' data.
+     * @throws FacebookException If an error occurs while performing the API call.
+     * @see #fetchAll(FacebookClient, List, Class, Map)
+     */
+    public static <T> Map<String, T> fetchAllParallel(FacebookClient client, List<String> ids, Class<T> objectType, Map<String, Object> parameters, int maxConcurrency) {
+        return fetchAllParallel(client, ids, objectType, parameters, maxConcurrency, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Fetches multiple <a href="http://developers.facebook.com/docs/reference/api/">Graph API objects</a> in parallel,
+     * mapping the results to an instance of {@code objectType}.
+     *
+     * @param <T>            Java type to map to.
+     * @param ids            IDs of the objects to fetch, e.g. {@code "me", "arjun"}.
+     * @param objectType     Object type token.
+     * @param parameters     URL parameters to include in the API call (optional).
+     * @param maxConcurrency Maximum number of the API calls in flight.
+     * @param executor       Executor running the API calls.
+     * @return An instance of type {@code objectType} which contains the requested objects' data.
+     * @throws FacebookException If an error occurs while performing the API call.
+     * @see #fetchAll(FacebookClient, List, Class, Map)
+     */
+    public static <T> Map<String, T> fetchAllParallel(FacebookClient client, List<String> ids, Class<T> objectType, Map<String, Object> parameters, int maxConcurrency, Executor executor) {
+        List<List<String>> parts = collate(ids, BATCH_SIZE);
+        Parameter[] variableArgs = buildVariableArgs(parameters);
+
+        List<CompletableFuture<JsonObject>> results = executeBounded(
+                parts.size(),
+                i -> client.fetchObjects(parts.get(i), JsonObject.class, variableArgs),
+                maxConcurrency,
+                executor
+        );
+
+        Map<String, T> objects = new LinkedHashMap<>();
+
+        try {
+            for (CompletableFuture<JsonObject> result : results) {
+                JsonObject object = join(result);
+
+                if (object == null) {
+                    return Collections.emptyMap();
+                }
+
+                for (JsonObject.Member member : object) {
+                    objects.put(member.getName(), client.getJsonMapper().toJavaObject(member.getValue().toString(), objectType));
+                }
+            }
+        } finally {
+            // skips the chunks not yet started if the result is already known
+            results.forEach(r -> r.cancel(false));
+        }
+
+        return objects;
+    }
+
     /**
      * @see com.restfb.FacebookClient#executeBatch(com.restfb.batch.BatchRequest[])
      */
@@ -144,6 +236,74 @@ public class FacebookExtensions {
         return responses;
     }
 
+    /**
+     * Executes the batch requests asynchronously, up to eight chunks of the maximum batch size at the same time.
+     *
+     * @see #safeBatchAsync(FacebookClient, List, List, int, Executor)
+     */
+    public static CompletableFuture<SafeBatchResult> safeBatchAsync(FacebookClient client, List<BatchRequest> batchRequests) {
+        return safeBatchAsync(client, batchRequests, Collections.emptyList(), DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Executes the batch requests asynchronously using virtual threads.
+     *
+     * @see #safeBatchAsync(FacebookClient, List, List, int, Executor)
+     */
+    public static CompletableFuture<SafeBatchResult> safeBatchAsync(FacebookClient client, List<BatchRequest> batchRequests, List<BinaryAttachment> binaryAttachments, int maxConcurrency) {
+        return safeBatchAsync(client, batchRequests, binaryAttachments, maxConcurrency, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Executes the batch requests asynchronously.
+     * <p>
+     * The requests are split into the chunks of the maximum batch size which are executed concurrently, at most
+     * {@code maxConcurrency} of them at the same time. The returned future never completes exceptionally because of
+     * a failed chunk, the failures are reported by {@link SafeBatchResult#getFailures()} next to the responses of
+     * the successful chunks.
+     *
+     * @param batchRequests     the batch requests
+     * @param binaryAttachments the binary attachments sent with each chunk
+     * @param maxConcurrency    maximum number of the chunks executed at the same time
+     * @param executor          executor running the API calls
+     * @return the future result of the batch with the responses in the order of the requests
+     * @see com.restfb.FacebookClient#executeBatch(java.util.List, java.util.List)
+     */
+    public static CompletableFuture<SafeBatchResult> safeBatchAsync(FacebookClient client, List<BatchRequest> batchRequests, List<BinaryAttachment> binaryAttachments, int maxConcurrency, Executor executor) {
+        verifyParameterPresence("binaryAttachments", binaryAttachments);
+
+        if (batchRequests == null || batchRequests.isEmpty()) {
+            throw new IllegalArgumentException("You must specify at least one batch request.");
+        }
+
+        List<List<BatchRequest>> chunks = collate(batchRequests, BATCH_SIZE);
+
+        List<CompletableFuture<List<BatchResponse>>> results = executeBounded(
+                chunks.size(),
+                i -> client.executeBatch(chunks.get(i), binaryAttachments),
+                maxConcurrency,
+                executor
+        );
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> {
+            List<BatchResponse> responses = new ArrayList<>(batchRequests.size());
+            List<SafeBatchResult.Failure> failures = new ArrayList<>();
+
+            for (int i = 0; i < chunks.size(); i++) {
+                List<BatchRequest> chunk = chunks.get(i);
+                CompletableFuture<List<BatchResponse>> result = results.get(i);
+                if (result.isCompletedExceptionally()) {
+                    failures.add(new SafeBatchResult.Failure(i * BATCH_SIZE, chunk, result.handle((r, e) -> e).join()));
+                    responses.addAll(Collections.nCopies(chunk.size(), null));
+                } else {
+                    responses.addAll(result.join());
+                }
+            }
+
+            return new SafeBatchResult(responses, failures);
+        });
+    }
+
     /**
      * Fetches multiple <a href="http://developers.facebook.com/docs/reference/api/">Graph API objects</a> in a single
      * call, mapping the results to an instance of {@code objectType}.
@@ -324,6 +484,63 @@ public class FacebookExtensions {
                 .toArray(Parameter[]::new);
     }
 
+    /**
+     * Runs {@code count} tasks using at most {@code maxConcurrency} workers, the task not yet started is skipped if its
+     * future has been already completed or cancelled.
+     */
+    private static <R> List<CompletableFuture<R>> executeBounded(int count, IntFunction<R> task, int maxConcurrency, Executor executor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be at least one but was " + maxConcurrency);
+        }
+
+        List<CompletableFuture<R>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                CompletableFuture<R> result = results.get(i);
+                if (result.isDone()) {
+                    continue;
+                }
+                try {
+                    result.complete(task.apply(i));
+                } catch (Throwable th) {
+                    result.completeExceptionally(th);
+                }
+            }
+        };
+
+        for (int i = 0; i < Math.min(maxConcurrency, count); i++) {
+            try {
+                executor.execute(worker);
+            } catch (RuntimeException e) {
+                results.forEach(r -> r.completeExceptionally(e));
+                break;
+            }
+        }
+
+        return results;
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("The request has been cancelled", e);
+        }
+    }
+
     private static <T> List<List<T>> collate(List<T> selfList, int step) {
         if (selfList == null) {
             return Collections.singletonList(Collections.emptyList());
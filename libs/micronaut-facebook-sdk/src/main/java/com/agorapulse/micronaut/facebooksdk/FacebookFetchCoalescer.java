@@ -0,0 +1,309 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.FacebookClient;
+import com.restfb.Parameter;
+import com.restfb.exception.FacebookGraphException;
+import com.restfb.json.JsonObject;
+import com.restfb.json.JsonValue;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the single object fetches into multi-object {@code ?ids=} calls.
+ * <p>
+ * The fetches using the same {@link FacebookClient} instance and the same parameters are collected for a short
+ * window or until the maximum batch size is reached and then fetched using a single
+ * {@link FacebookClient#fetchObjects(List, Class, Parameter...)} call. Every caller receives its own object mapped
+ * to the requested type. The client instances should be reused to benefit from the coalescing, e.g. by enabling
+ * the client cache of the application.
+ * <p>
+ * If the Graph API rejects the multi-object call, e.g. because one of the ids does not exist, the ids are fetched
+ * one by one so only the callers of the offending ids fail. The network errors and the transient errors such as
+ * the rate limits fail every caller of the batch.
+ */
+public class FacebookFetchCoalescer implements Closeable {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 50;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(10);
+
+    private static final Executor VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("facebook-fetch-coalescer-", 0).factory());
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+    public FacebookFetchCoalescer() {
+        this(DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public FacebookFetchCoalescer(Duration window, int maxBatchSize) {
+        this(window, maxBatchSize, VIRTUAL_THREADS);
+    }
+
+    /**
+     * @param window        the maximum time the fetch waits for the other fetches
+     * @param maxBatchSize  the maximum number of the ids fetched at once, Facebook allows up to 50
+     * @param executor      executor running the API calls
+     */
+    public FacebookFetchCoalescer(Duration window, int maxBatchSize, Executor executor) {
+        if (maxBatchSize < 1 || maxBatchSize > DEFAULT_MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Maximum batch size must be between 1 and " + DEFAULT_MAX_BATCH_SIZE + " but was " + maxBatchSize);
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "facebook-fetch-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Fetches a single <a href="http://developers.facebook.com/docs/reference/api/">Graph API object</a>, mapping the
+     * result to an instance of {@code objectType}, together with other fetches using the same client and parameters.
+     *
+     * @param <T>        Java type to map to.
+     * @param object     ID of the object to fetch.
+     * @param objectType Object type token.
+     * @param parameters URL parameters to include in the API call (optional).
+     * @return future instance of type {@code objectType} which contains the requested object's data,
+     * completed exceptionally with {@link com.restfb.exception.FacebookException} if the API call fails
+     */
+    public <T> CompletableFuture<T> fetchObject(FacebookClient client, String object, Class<T> objectType, Map<String, Object> parameters) {
+        Pending<T> pending = new Pending<>(object, objectType);
+        BatchKey key = new BatchKey(client, parameters);
+        Batch full = null;
+
+        synchronized (batches) {
+            Batch batch = batches.get(key);
+            if (batch == null) {
+                Batch created = new Batch(key);
+                created.timer = scheduler.schedule(() -> dispatch(created), window.toNanos(), TimeUnit.NANOSECONDS);
+                batches.put(key, created);
+                batch = created;
+            }
+
+            batch.add(pending);
+
+            if (batch.ids.size() >= maxBatchSize) {
+                batches.remove(key);
+                batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            execute(full);
+        }
+
+        return pending.result;
+    }
+
+    /**
+     * Executes all the pending fetches immediately.
+     */
+    public void flush() {
+        List<Batch> pending;
+        synchronized (batches) {
+            pending = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        for (Batch batch : pending) {
+            batch.timer.cancel(false);
+            execute(batch);
+        }
+    }
+
+    /**
+     * Executes all the pending fetches and stops the scheduler.
+     */
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdownNow();
+    }
+
+    private void dispatch(Batch batch) {
+        synchronized (batches) {
+            if (batches.get(batch.key) != batch) {
+                // already dispatched because the batch is full or flushed
+                return;
+            }
+            batches.remove(batch.key);
+        }
+        execute(batch);
+    }
+
+    private void execute(Batch batch) {
+        try {
+            executor.execute(() -> fetch(batch));
+        } catch (RuntimeException e) {
+            batch.fail(e);
+        }
+    }
+
+    private void fetch(Batch batch) {
+        FacebookClient client = batch.key.client;
+        JsonObject objects;
+
+        try {
+            objects = client.fetchObjects(new ArrayList<>(batch.ids), JsonObject.class, batch.key.parameters);
+        } catch (FacebookGraphException e) {
+            if (batch.ids.size() > 1 && !FacebookRetryPolicy.DEFAULT_RETRYABLE_CODES.contains(e.getErrorCode())) {
+                // a single invalid id fails the whole call so the ids are fetched one by one to fail only their own callers
+                batch.ids.forEach(id -> execute(batch, id));
+                return;
+            }
+            batch.fail(e);
+            return;
+        } catch (Throwable th) {
+            batch.fail(th);
+            return;
+        }
+
+        for (Pending<?> pending : batch.pending) {
+            pending.complete(client, objects == null ? null : objects.get(pending.id));
+        }
+    }
+
+    private void execute(Batch batch, String id) {
+        try {
+            executor.execute(() -> fetch(batch, id));
+        } catch (RuntimeException e) {
+            batch.fail(id, e);
+        }
+    }
+
+    private static void fetch(Batch batch, String id) {
+        FacebookClient client = batch.key.client;
+        JsonObject object;
+
+        try {
+            object = client.fetchObject(id, JsonObject.class, batch.key.parameters);
+        } catch (Throwable th) {
+            batch.fail(id, th);
+            return;
+        }
+
+        for (Pending<?> pending : batch.pending) {
+            if (pending.id.equals(id)) {
+                pending.complete(client, object);
+            }
+        }
+    }
+
+    private static final class BatchKey {
+
+        private final FacebookClient client;
+        private final Map<String, Object> parametersMap;
+        private final Parameter[] parameters;
+
+        BatchKey(FacebookClient client, Map<String, Object> parameters) {
+            this.client = client;
+            this.parametersMap = parameters;
+            this.parameters = parameters
+                .entrySet()
+                .stream()
+                .map(e -> Parameter.with(e.getKey(), e.getValue()))
+                .toArray(Parameter[]::new);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey other)) {
+                return false;
+            }
+            return client == other.client && Objects.equals(parametersMap, other.parametersMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(client) + Objects.hashCode(parametersMap);
+        }
+
+    }
+
+    private static final class Batch {
+
+        private final BatchKey key;
+        private final LinkedHashSet<String> ids = new LinkedHashSet<>();
+        private final List<Pending<?>> pending = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+
+        Batch(BatchKey key) {
+            this.key = key;
+        }
+
+        void add(Pending<?> fetch) {
+            ids.add(fetch.id);
+            pending.add(fetch);
+        }
+
+        void fail(Throwable th) {
+            pending.forEach(p -> p.result.completeExceptionally(th));
+        }
+
+        void fail(String id, Throwable th) {
+            pending.stream().filter(p -> p.id.equals(id)).forEach(p -> p.result.completeExceptionally(th));
+        }
+
+    }
+
+    private static final class Pending<T> {
+
+        private final String id;
+        private final Class<T> type;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Pending(String id, Class<T> type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        void complete(FacebookClient client, JsonValue value) {
+            try {
+                result.complete(value == null || value.isNull() ? null : client.getJsonMapper().toJavaObject(value.toString(), type));
+            } catch (Throwable th) {
+                result.completeExceptionally(th);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Configuration of the shared HTTP client used by all the {@link FacebookApplication} beans.
+ * <p>
+ * The shared client is only created when {@code facebook.sdk.http.enabled} is set to {@code true}, otherwise every
+ * client uses its own restfb {@link com.restfb.DefaultWebRequestor}.
+ */
+@ConfigurationProperties("facebook.sdk.http")
+public class FacebookHttpConfiguration {
+
+    private boolean enabled;
+
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    private Duration readTimeout = Duration.ofMinutes(3);
+
+    private Integer maxConnections;
+
+    private Duration keepAlive;
+
+    /**
+     * @return whether the pooled HTTP client is shared by all the Facebook clients
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the preferred HTTP protocol version, the client falls back to HTTP/1.1 if HTTP/2 is not available
+     */
+    public HttpClient.Version getVersion() {
+        return version;
+    }
+
+    public void setVersion(HttpClient.Version version) {
+        this.version = version;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * @return the maximum time to wait for the response, defaults to three minutes as in restfb
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * The maximum number of idle HTTP/1.1 connections kept in the pool.
+     * <p>
+     * The JDK connection pool is configured using the {@code jdk.httpclient.connectionPoolSize} system property
+     * which is read only once per JVM, the value is therefore only applied if the property is not already set and
+     * no other {@link HttpClient} has been used yet.
+     *
+     * @return the maximum number of pooled connections or {@code null} to keep the JDK default (unlimited)
+     */
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * How long the idle connections are kept alive in the pool.
+     * <p>
+     * Applied using the {@code jdk.httpclient.keepalive.timeout} system properties with the same limitations as
+     * {@link #getMaxConnections()}.
+     *
+     * @return the keep-alive timeout or {@code null} to keep the JDK default
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookHttpConfiguration[enabled:" + enabled + ", version:" + version + ", connectTimeout:" + connectTimeout + ", readTimeout:" + readTimeout + ", maxConnections:" + maxConnections + ", keepAlive:" + keepAlive + "]";
+    }
+
+}
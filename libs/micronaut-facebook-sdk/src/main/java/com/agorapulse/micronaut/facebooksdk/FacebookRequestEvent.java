@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import java.time.Duration;
+
+/**
+ * Single Graph API call made by the clients of the {@link FacebookApplication}.
+ *
+ * @see FacebookRequestListener
+ */
+public final class FacebookRequestEvent {
+
+    private final Long applicationId;
+    private final String method;
+    private final String endpoint;
+    private final String apiVersion;
+    private final int statusCode;
+    private final Duration duration;
+    private final int responseSize;
+    private final Integer errorCode;
+    private final Integer errorSubcode;
+    private final Throwable exception;
+
+    public FacebookRequestEvent(
+        Long applicationId,
+        String method,
+        String endpoint,
+        String apiVersion,
+        int statusCode,
+        Duration duration,
+        int responseSize,
+        Integer errorCode,
+        Integer errorSubcode,
+        Throwable exception
+    ) {
+        this.applicationId = applicationId;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.apiVersion = apiVersion;
+        this.statusCode = statusCode;
+        this.duration = duration;
+        this.responseSize = responseSize;
+        this.errorCode = errorCode;
+        this.errorSubcode = errorSubcode;
+        this.exception = exception;
+    }
+
+    /**
+     * @return the ID of the application which created the client, {@code null} if not configured
+     */
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return the HTTP method, e.g. {@code GET}
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the path of the endpoint with the IDs replaced by {@code {id}}, e.g. {@code /{id}/feed}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the version of the API, e.g. {@code v23.0}, or {@code unversioned}
+     */
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    /**
+     * @return the HTTP status code of the response or {@code -1} if no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of the characters of the response body
+     */
+    public int getResponseSize() {
+        return responseSize;
+    }
+
+    /**
+     * @return the {@code error.code} of the error response, {@code null} if the request succeeded
+     */
+    public Integer getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * @return the {@code error.error_subcode} of the error response, {@code null} if not present
+     */
+    public Integer getErrorSubcode() {
+        return errorSubcode;
+    }
+
+    /**
+     * @return the exception thrown by the requestor if no response was received
+     */
+    public Throwable getException() {
+        return exception;
+    }
+
+    /**
+     * @return whether the response was received and it is not an error response
+     */
+    public boolean isSuccessful() {
+        return exception == null && errorCode == null && statusCode < 400;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookRequestEvent[applicationId:" + applicationId + ", method:" + method + ", endpoint:'" + endpoint
+            + "', apiVersion:" + apiVersion + ", statusCode:" + statusCode + ", duration:" + duration + ", errorCode:" + errorCode
+            + ", errorSubcode:" + errorSubcode + "]";
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+/**
+ * Listener notified about every Graph API call made by the clients created by {@link DefaultFacebookApplication}.
+ * <p>
+ * All the beans implementing this interface are registered automatically. The listeners are called on the thread
+ * which executed the request so they should return quickly.
+ */
+@FunctionalInterface
+public interface FacebookRequestListener {
+
+    /**
+     * Called after the response is received or the request failed.
+     *
+     * @param event the details of the request
+     */
+    void onRequest(FacebookRequestEvent event);
+
+    /**
+     * Called before each retry of a failed request and once the retried request finished.
+     *
+     * @param event the details of the retry
+     * @see FacebookRetryPolicy
+     */
+    default void onRetry(FacebookRetryEvent event) {
+        // retries are ignored by default
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.WebRequestor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * {@link WebRequestor.Response} which also carries the response headers.
+ * <p>
+ * The header names are case-insensitive.
+ */
+public class FacebookResponse extends WebRequestor.Response {
+
+    private final Map<String, List<String>> headers;
+
+    public FacebookResponse(Integer statusCode, String body, Map<String, List<String>> headers) {
+        super(statusCode, body);
+        Map<String, List<String>> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                // HttpURLConnection reports the status line with the null name
+                if (name != null) {
+                    caseInsensitive.put(name, values);
+                }
+            });
+        }
+        this.headers = Collections.unmodifiableMap(caseInsensitive);
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @param name the case-insensitive name of the header
+     * @return the first value of the header if present
+     */
+    public Optional<String> getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.ofNullable(values.get(0));
+    }
+
+}
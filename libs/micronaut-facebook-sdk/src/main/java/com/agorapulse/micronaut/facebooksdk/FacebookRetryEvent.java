@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import java.time.Duration;
+
+/**
+ * Retry of a Graph API call made by the clients of the {@link FacebookApplication}.
+ *
+ * @see FacebookRequestListener#onRetry(FacebookRetryEvent)
+ */
+public final class FacebookRetryEvent {
+
+    /**
+     * The kind of the event.
+     */
+    public enum Type {
+
+        /**
+         * The attempt failed with a transient error and the request is going to be retried after the delay.
+         */
+        RETRY,
+
+        /**
+         * The request succeeded after at least one retry.
+         */
+        RECOVERED,
+
+        /**
+         * The request was retried but the last attempt failed as well, the failure is returned to the caller.
+         */
+        EXHAUSTED
+
+    }
+
+    private final Type type;
+    private final Long applicationId;
+    private final String method;
+    private final String endpoint;
+    private final int attempt;
+    private final Duration delay;
+    private final String reason;
+
+    public FacebookRetryEvent(Type type, Long applicationId, String method, String endpoint, int attempt, Duration delay, String reason) {
+        this.type = type;
+        this.applicationId = applicationId;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.attempt = attempt;
+        this.delay = delay;
+        this.reason = reason;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the ID of the application which created the client, {@code null} if not configured
+     */
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return the HTTP method, e.g. {@code GET}
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the path of the endpoint with the IDs replaced by {@code {id}}, e.g. {@code /{id}/feed}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the number of the attempt which has just finished, starting with {@code 1}
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * @return the delay before the next attempt, {@link Duration#ZERO} unless the type is {@link Type#RETRY}
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return the cause of the last failure, the Graph API error code, {@code HTTP_<status>} or the exception name,
+     * {@code null} for {@link Type#RECOVERED}
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookRetryEvent[type:" + type + ", applicationId:" + applicationId + ", method:" + method + ", endpoint:'" + endpoint
+            + "', attempt:" + attempt + ", delay:" + delay + ", reason:" + reason + "]";
+    }
+
+}
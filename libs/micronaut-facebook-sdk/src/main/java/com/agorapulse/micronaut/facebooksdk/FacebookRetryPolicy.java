@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy of retrying the transient Graph API failures used by {@link RetryingWebRequestor}.
+ * <p>
+ * The delay before the n-th retry is {@code initialDelay * multiplier^(n - 1)} capped by {@code maxDelay}. The jitter
+ * randomly shortens each delay by up to the given fraction so the clients failing at the same time do not retry at
+ * the same time. The {@code GET} and {@code DELETE} requests are retried by default, the {@code POST} requests are not
+ * idempotent and they are only retried if explicitly enabled.
+ */
+public final class FacebookRetryPolicy {
+
+    /**
+     * The error codes of the transient errors: unknown error, service unavailable, application request limit,
+     * user request limit and application limit.
+     */
+    public static final List<Integer> DEFAULT_RETRYABLE_CODES = List.of(1, 2, 4, 17, 341);
+
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(200);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<Integer> retryableCodes;
+    private final boolean retryPost;
+
+    /**
+     * Creates policy with the default delays and error codes.
+     *
+     * @param maxAttempts the maximum number of the attempts including the first one
+     */
+    public FacebookRetryPolicy(int maxAttempts) {
+        this(maxAttempts, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, DEFAULT_MULTIPLIER, DEFAULT_JITTER, DEFAULT_RETRYABLE_CODES, false);
+    }
+
+    /**
+     * @param maxAttempts    the maximum number of the attempts including the first one
+     * @param initialDelay   the delay before the first retry
+     * @param maxDelay       the maximum delay between the attempts
+     * @param multiplier     the multiplier of the delay for each subsequent retry
+     * @param jitter         the maximum fraction of the delay randomly subtracted, between {@code 0} and {@code 1}
+     * @param retryableCodes the Graph API error codes to be retried
+     * @param retryPost      whether the {@code POST} requests should be retried
+     */
+    public FacebookRetryPolicy(
+        int maxAttempts,
+        Duration initialDelay,
+        Duration maxDelay,
+        double multiplier,
+        double jitter,
+        Collection<Integer> retryableCodes,
+        boolean retryPost
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Maximum attempts must be at least 1 but was " + maxAttempts);
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1 but was " + multiplier);
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1 but was " + jitter);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryableCodes = Set.copyOf(retryableCodes);
+        this.retryPost = retryPost;
+    }
+
+    /**
+     * Creates the policy from the retry settings of the application configuration.
+     *
+     * @param configuration the application configuration
+     * @return the retry policy of the application
+     */
+    public static FacebookRetryPolicy of(AbstractFacebookApplicationConfiguration configuration) {
+        return new FacebookRetryPolicy(
+            configuration.getRetryMaxAttempts(),
+            configuration.getRetryInitialDelay(),
+            configuration.getRetryMaxDelay(),
+            configuration.getRetryMultiplier(),
+            configuration.getRetryJitter(),
+            configuration.getRetryCodes(),
+            configuration.isRetryPost()
+        );
+    }
+
+    /**
+     * @return the maximum number of the attempts including the first one, {@code 1} disables the retries
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public Set<Integer> getRetryableCodes() {
+        return retryableCodes;
+    }
+
+    public boolean isRetryPost() {
+        return retryPost;
+    }
+
+    /**
+     * @param method the HTTP method
+     * @return whether the requests using the given method can be retried
+     */
+    public boolean isRetryable(String method) {
+        return maxAttempts > 1 && (retryPost || !"POST".equals(method));
+    }
+
+    /**
+     * @param statusCode the HTTP status code of the response
+     * @param errorCode  the Graph API error code or {@code null}
+     * @return whether the response is a transient failure
+     */
+    public boolean isRetryable(int statusCode, Integer errorCode) {
+        return errorCode != null ? retryableCodes.contains(errorCode) : statusCode >= 500;
+    }
+
+    /**
+     * @param retry the number of the retry starting with {@code 1}
+     * @return the randomized delay before the given retry
+     */
+    public Duration getDelay(int retry) {
+        return getDelay(retry, ThreadLocalRandom.current().nextDouble());
+    }
+
+    Duration getDelay(int retry, double random) {
+        double nanos = initialDelay.toNanos() * Math.pow(multiplier, retry - 1);
+        double capped = Math.min(nanos, maxDelay.toNanos());
+        return Duration.ofNanos((long) (capped * (1 - jitter * random)));
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookRetryPolicy[maxAttempts:" + maxAttempts + ", initialDelay:" + initialDelay + ", maxDelay:" + maxDelay
+            + ", multiplier:" + multiplier + ", jitter:" + jitter + ", retryableCodes:" + retryableCodes + ", retryPost:" + retryPost + "]";
+    }
+
+}
@@ -18,20 +18,47 @@
 package com.agorapulse.micronaut.facebooksdk;
 
 import com.restfb.Version;
+import com.restfb.WebRequestor;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.convert.TypeConverter;
+import io.micronaut.core.util.StringUtils;
 
+import jakarta.annotation.Nullable;
 import jakarta.inject.Singleton;
+import java.util.List;
 import java.util.Optional;
 
 @Factory
 public class FacebookSdkFactory {
 
     @EachBean(FacebookApplicationConfiguration.class)
-    public FacebookApplication facebookApplication(FacebookApplicationConfiguration configuration) {
-        return new DefaultFacebookApplication(configuration);
+    public FacebookApplication facebookApplication(
+        FacebookApplicationConfiguration configuration,
+        @Nullable WebRequestor webRequestor,
+        List<FacebookRequestListener> requestListeners,
+        FacebookUsageTracker usageTracker
+    ) {
+        return new DefaultFacebookApplication(configuration, webRequestor, requestListeners, usageTracker);
+    }
+
+    @EachBean(NamedFacebookApplicationConfiguration.class)
+    public NamedFacebookApplication namedFacebookApplication(
+        NamedFacebookApplicationConfiguration configuration,
+        @Nullable WebRequestor webRequestor,
+        List<FacebookRequestListener> requestListeners,
+        FacebookUsageTracker usageTracker
+    ) {
+        return new NamedFacebookApplication(configuration, webRequestor, requestListeners, usageTracker);
+    }
+
+    @Singleton
+    @Bean(preDestroy = "close")
+    @Requires(property = "facebook.sdk.http.enabled", value = StringUtils.TRUE)
+    public HttpClientWebRequestor facebookWebRequestor(FacebookHttpConfiguration configuration) {
+        return HttpClientWebRequestor.create(configuration);
     }
 
     @Bean
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rate limit usage reported by the Graph API in the {@code X-App-Usage}, {@code X-Business-Use-Case-Usage} and
+ * {@code X-Ad-Account-Usage} response headers.
+ * <p>
+ * All the values are percentages of the limit, the application is throttled when any of them reaches {@code 100}.
+ */
+public final class FacebookUsage {
+
+    /**
+     * The source of the usage.
+     */
+    public enum Type {
+
+        /**
+         * Platform rate limit of the application, {@code X-App-Usage} header.
+         */
+        APPLICATION,
+
+        /**
+         * Business use case rate limit, {@code X-Business-Use-Case-Usage} header.
+         */
+        BUSINESS,
+
+        /**
+         * Marketing API rate limit of the ad account, {@code X-Ad-Account-Usage} header.
+         */
+        AD_ACCOUNT
+
+    }
+
+    private final Type type;
+    private final Long applicationId;
+    private final String id;
+    private final String useCase;
+    private final int callCount;
+    private final int totalCputime;
+    private final int totalTime;
+    private final Duration timeToRegainAccess;
+    private final Instant timestamp;
+
+    public FacebookUsage(
+        Type type,
+        Long applicationId,
+        String id,
+        String useCase,
+        int callCount,
+        int totalCputime,
+        int totalTime,
+        Duration timeToRegainAccess,
+        Instant timestamp
+    ) {
+        this.type = type;
+        this.applicationId = applicationId;
+        this.id = id;
+        this.useCase = useCase;
+        this.callCount = callCount;
+        this.totalCputime = totalCputime;
+        this.totalTime = totalTime;
+        this.timeToRegainAccess = timeToRegainAccess;
+        this.timestamp = timestamp;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the ID of the application which received the usage
+     */
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return the business ID for {@link Type#BUSINESS}, the ad account ID for {@link Type#AD_ACCOUNT}, {@code null} for {@link Type#APPLICATION}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the business use case type such as {@code pages} for {@link Type#BUSINESS}, {@code null} otherwise
+     */
+    public String getUseCase() {
+        return useCase;
+    }
+
+    public int getCallCount() {
+        return callCount;
+    }
+
+    public int getTotalCputime() {
+        return totalCputime;
+    }
+
+    public int getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return the time until the access is regained after being throttled, {@link Duration#ZERO} if not throttled
+     */
+    public Duration getTimeToRegainAccess() {
+        return timeToRegainAccess;
+    }
+
+    /**
+     * @return the time when the usage was reported
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the highest of the call count, total CPU time and total time percentages
+     */
+    public int getPercentage() {
+        return Math.max(callCount, Math.max(totalCputime, totalTime));
+    }
+
+    @Override
+    public String toString() {
+        return "FacebookUsage[type:" + type + ", applicationId:" + applicationId + ", id:" + id + ", useCase:" + useCase
+            + ", callCount:" + callCount + ", totalCputime:" + totalCputime + ", totalTime:" + totalTime
+            + ", timeToRegainAccess:" + timeToRegainAccess + "]";
+    }
+
+}
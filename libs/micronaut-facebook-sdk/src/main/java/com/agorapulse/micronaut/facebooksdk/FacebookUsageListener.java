@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+/**
+ * Listener notified by {@link FacebookUsageTracker} whenever a rate limit usage is reported by the Graph API.
+ * <p>
+ * All the beans implementing this interface are registered automatically.
+ */
+@FunctionalInterface
+public interface FacebookUsageListener {
+
+    /**
+     * @param usage the reported usage
+     */
+    void onUsage(FacebookUsage usage);
+
+}
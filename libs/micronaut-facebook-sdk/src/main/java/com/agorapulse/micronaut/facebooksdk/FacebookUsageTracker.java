@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.json.Json;
+import com.restfb.json.JsonObject;
+import com.restfb.json.JsonValue;
+import com.restfb.json.ParseException;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Tracks the rate limit usage reported by the Graph API in the response headers per application, business and ad account.
+ * <p>
+ * The usage is reported as a percentage of the limit over a rolling window. Usages not refreshed for
+ * {@link #DEFAULT_STALE_AFTER} are no longer considered by {@link #getMaxPercentage(Long)}.
+ * <p>
+ * Failures of the {@link FacebookUsageListener}s are logged and never propagated to the request reporting the usage.
+ */
+@Singleton
+public class FacebookUsageTracker {
+
+    public static final String APP_USAGE_HEADER = "X-App-Usage";
+    public static final String BUSINESS_USE_CASE_USAGE_HEADER = "X-Business-Use-Case-Usage";
+    public static final String AD_ACCOUNT_USAGE_HEADER = "X-Ad-Account-Usage";
+
+    public static final Duration DEFAULT_STALE_AFTER = Duration.ofMinutes(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FacebookUsageTracker.class);
+    private static final String AD_ACCOUNT_PREFIX = "act_";
+
+    private final Map<Long, Map<UsageKey, FacebookUsage>> usages = new ConcurrentHashMap<>();
+    private final List<FacebookUsageListener> listeners;
+    private final Duration staleAfter;
+    private final Clock clock;
+
+    public FacebookUsageTracker() {
+        this(Collections.emptyList());
+    }
+
+    @Inject
+    public FacebookUsageTracker(List<FacebookUsageListener> listeners) {
+        this(listeners, DEFAULT_STALE_AFTER, Clock.systemUTC());
+    }
+
+    FacebookUsageTracker(List<FacebookUsageListener> listeners, Duration staleAfter, Clock clock) {
+        this.listeners = List.copyOf(listeners);
+        this.staleAfter = staleAfter;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the usage reported in the response headers.
+     *
+     * @param applicationId the ID of the application which made the request
+     * @param url           the URL of the request used to find the ad account ID
+     * @param headers       function returning the value of the given response header or {@code null}
+     */
+    public void update(Long applicationId, String url, Function<String, String> headers) {
+        String appUsage = headers.apply(APP_USAGE_HEADER);
+        String businessUsage = headers.apply(BUSINESS_USE_CASE_USAGE_HEADER);
+        String adAccountUsage = headers.apply(AD_ACCOUNT_USAGE_HEADER);
+
+        if (appUsage == null && businessUsage == null && adAccountUsage == null) {
+            return;
+        }
+
+        Instant now = clock.instant();
+
+        JsonObject app = parseObject(appUsage);
+        if (app != null) {
+            record(new FacebookUsage(
+                FacebookUsage.Type.APPLICATION,
+                applicationId,
+                null,
+                null,
+                readPercentage(app, "call_count"),
+                readPercentage(app, "total_cputime"),
+                readPercentage(app, "total_time"),
+                Duration.ZERO,
+                now
+            ));
+        }
+
+        JsonObject business = parseObject(businessUsage);
+        if (business != null) {
+            for (JsonObject.Member member : business) {
+                if (!member.getValue().isArray()) {
+                    continue;
+                }
+                for (JsonValue value : member.getValue().asArray()) {
+                    if (value.isObject()) {
+                        JsonObject useCase = value.asObject();
+                        record(new FacebookUsage(
+                            FacebookUsage.Type.BUSINESS,
+                            applicationId,
+                            member.getName(),
+                            useCase.getString("type", null),
+                            readPercentage(useCase, "call_count"),
+                            readPercentage(useCase, "total_cputime"),
+                            readPercentage(useCase, "total_time"),
+                            Duration.ofMinutes(readPercentage(useCase, "estimated_time_to_regain_access")),
+                            now
+                        ));
+                    }
+                }
+            }
+        }
+
+        JsonObject adAccount = parseObject(adAccountUsage);
+        String adAccountId = adAccountId(url);
+        if (adAccount != null && adAccountId != null) {
+            int utilization = readPercentage(adAccount, "acc_id_util_pct");
+            record(new FacebookUsage(
+                FacebookUsage.Type.AD_ACCOUNT,
+                applicationId,
+                adAccountId,
+                null,
+                utilization,
+                utilization,
+                utilization,
+                Duration.ofSeconds(readPercentage(adAccount, "reset_time_duration")),
+                now
+            ));
+        }
+    }
+
+    /**
+     * @param applicationId the application ID
+     * @return the last usage of the application if reported
+     */
+    public Optional<FacebookUsage> getApplicationUsage(Long applicationId) {
+        return Optional.ofNullable(usagesOf(applicationId).get(new UsageKey(FacebookUsage.Type.APPLICATION, null, null)));
+    }
+
+    /**
+     * @param businessId the business ID
+     * @return the last usages of the business use cases reported to any application
+     */
+    public List<FacebookUsage> getBusinessUsage(String businessId) {
+        return find(FacebookUsage.Type.BUSINESS, businessId);
+    }
+
+    /**
+     * @param adAccountId the ad account ID with or without the {@code act_} prefix
+     * @return the last usages of the ad account reported to any application
+     */
+    public List<FacebookUsage> getAdAccountUsage(String adAccountId) {
+        return find(FacebookUsage.Type.AD_ACCOUNT, adAccountId.startsWith(AD_ACCOUNT_PREFIX) ? adAccountId.substring(AD_ACCOUNT_PREFIX.length()) : adAccountId);
+    }
+
+    /**
+     * @return all the last reported usages
+     */
+    public List<FacebookUsage> getUsages() {
+        List<FacebookUsage> all = new ArrayList<>();
+        usages.values().forEach(app -> all.addAll(app.values()));
+        return all;
+    }
+
+    /**
+     * @param applicationId the application ID
+     * @return the highest percentage of the usages reported to the application which are not stale
+     */
+    public int getMaxPercentage(Long applicationId) {
+        return getMaxUsage(applicationId).map(FacebookUsage::getPercentage).orElse(0);
+    }
+
+    /**
+     * @param applicationId the application ID
+     * @return the usage with the highest percentage reported to the application which is not stale
+     */
+    public Optional<FacebookUsage> getMaxUsage(Long applicationId) {
+        Instant staleBefore = clock.instant().minus(staleAfter);
+        FacebookUsage max = null;
+        for (FacebookUsage usage : usagesOf(applicationId).values()) {
+            if (usage.getTimestamp().isAfter(staleBefore) && (max == null || usage.getPercentage() > max.getPercentage())) {
+                max = usage;
+            }
+        }
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * Finds the usage limiting the request to the given URL. The usage of the application limits every request while
+     * the usage of a business or an ad account only limits the requests to the objects of the same business or ad account.
+     *
+     * @param applicationId the application ID
+     * @param url           the URL of the request or {@code null} to only consider the usage of the application
+     * @return the usage with the highest percentage which applies to the request and which is not stale
+     */
+    public Optional<FacebookUsage> getMaxUsage(Long applicationId, String url) {
+        Instant staleBefore = clock.instant().minus(staleAfter);
+        String adAccountId = adAccountId(url);
+        List<String> segments = pathSegments(url);
+        FacebookUsage max = null;
+        for (FacebookUsage usage : usagesOf(applicationId).values()) {
+            if (appliesTo(usage, adAccountId, segments) && usage.getTimestamp().isAfter(staleBefore) && (max == null || usage.getPercentage() > max.getPercentage())) {
+                max = usage;
+            }
+        }
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * @return {@code true} if any {@link FacebookUsageListener} is notified about the reported usages
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    private void record(FacebookUsage usage) {
+        usages.computeIfAbsent(key(usage.getApplicationId()), id -> new ConcurrentHashMap<>())
+            .put(new UsageKey(usage.getType(), usage.getId(), usage.getUseCase()), usage);
+
+        for (FacebookUsageListener listener : listeners) {
+            try {
+                listener.onUsage(usage);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Facebook usage listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private List<FacebookUsage> find(FacebookUsage.Type type, String id) {
+        List<FacebookUsage> found = new ArrayList<>();
+        for (Map<UsageKey, FacebookUsage> app : usages.values()) {
+            for (FacebookUsage usage : app.values()) {
+                if (usage.getType() == type && Objects.equals(id, usage.getId())) {
+                    found.add(usage);
+                }
+            }
+        }
+        return found;
+    }
+
+    private Map<UsageKey, FacebookUsage> usagesOf(Long applicationId) {
+        return usages.getOrDefault(key(applicationId), Collections.emptyMap());
+    }
+
+    private static Long key(Long applicationId) {
+        // ConcurrentHashMap does not support null keys
+        return applicationId == null ? Long.valueOf(0) : applicationId;
+    }
+
+    private static String adAccountId(String url) {
+        if (url == null) {
+            return null;
+        }
+        int start = url.indexOf("/" + AD_ACCOUNT_PREFIX);
+        if (start < 0) {
+            return null;
+        }
+        start += AD_ACCOUNT_PREFIX.length() + 1;
+        int end = start;
+        while (end < url.length() && Character.isDigit(url.charAt(end))) {
+            end++;
+        }
+        return end == start ? null : url.substring(start, end);
+    }
+
+    private static boolean appliesTo(FacebookUsage usage, String adAccountId, List<String> segments) {
+        if (usage.getType() == FacebookUsage.Type.BUSINESS) {
+            return segments.contains(usage.getId());
+        }
+        if (usage.getType() == FacebookUsage.Type.AD_ACCOUNT) {
+            return Objects.equals(adAccountId, usage.getId());
+        }
+        return true;
+    }
+
+    private static List<String> pathSegments(String url) {
+        if (url == null) {
+            return Collections.emptyList();
+        }
+        int scheme = url.indexOf("://");
+        int start = url.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+        if (start < 0) {
+            return Collections.emptyList();
+        }
+        int query = url.indexOf('?', start);
+        return List.of(url.substring(start + 1, query < 0 ? url.length() : query).split("/"));
+    }
+
+    private static JsonObject parseObject(String header) {
+        if (header == null || header.isEmpty()) {
+            return null;
+        }
+        try {
+            JsonValue value = Json.parse(header);
+            return value.isObject() ? value.asObject() : null;
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static int readPercentage(JsonObject object, String name) {
+        JsonValue value = object.get(name);
+        if (value == null || !value.isNumber()) {
+            return 0;
+        }
+        return (int) Math.ceil(value.asDouble());
+    }
+
+    private static final class UsageKey {
+
+        private final FacebookUsage.Type type;
+        private final String id;
+        private final String useCase;
+
+        UsageKey(FacebookUsage.Type type, String id, String useCase) {
+            this.type = type;
+            this.id = id;
+            this.useCase = useCase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UsageKey other)) {
+                return false;
+            }
+            return type == other.type && Objects.equals(id, other.id) && Objects.equals(useCase, other.useCase);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id, useCase);
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.DefaultWebRequestor;
+import com.restfb.WebRequestor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * {@link WebRequestor} backed by a single {@link HttpClient} so the connections and TLS sessions are reused
+ * across all the Facebook clients.
+ * <p>
+ * The requestor is thread-safe and returns {@link FacebookResponse} with the response headers. Requests carrying binary attachments or reels are rare and are delegated to a fresh
+ * restfb {@link DefaultWebRequestor} which already knows how to stream them.
+ */
+public class HttpClientWebRequestor implements WebRequestor, Closeable {
+
+    private static final String CONNECTION_POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final String KEEP_ALIVE_H2_PROPERTY = "jdk.httpclient.keepalive.timeout.h2";
+
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    public HttpClientWebRequestor(HttpClient httpClient, Duration readTimeout) {
+        this.httpClient = httpClient;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Creates new requestor from the configuration.
+     *
+     * @param configuration the HTTP configuration
+     * @return new requestor backed by newly created {@link HttpClient}
+     */
+    public static HttpClientWebRequestor create(FacebookHttpConfiguration configuration) {
+        if (configuration.getMaxConnections() != null) {
+            setPropertyIfMissing(CONNECTION_POOL_SIZE_PROPERTY, String.valueOf(configuration.getMaxConnections()));
+        }
+
+        if (configuration.getKeepAlive() != null) {
+            String seconds = String.valueOf(Math.max(1, configuration.getKeepAlive().toSeconds()));
+            setPropertyIfMissing(KEEP_ALIVE_PROPERTY, seconds);
+            setPropertyIfMissing(KEEP_ALIVE_H2_PROPERTY, seconds);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(configuration.getVersion())
+                .connectTimeout(configuration.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        return new HttpClientWebRequestor(client, configuration.getReadTimeout());
+    }
+
+    @Override
+    public Response executeGet(Request request) throws IOException {
+        return execute(newRequest(request.getFullUrl(), request).GET().build());
+    }
+
+    @Override
+    public Response executePost(Request request) throws IOException {
+        if (request.isReelUpload() || request.getBinaryAttachments() != null && !request.getBinaryAttachments().isEmpty()) {
+            return new DefaultWebRequestor().executePost(request);
+        }
+
+        if (request.hasBody()) {
+            return execute(newRequest(request.getFullUrl(), request)
+                    .header("Content-Type", JSON_CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofString(request.getBody().getData()))
+                    .build()
+            );
+        }
+
+        return execute(newRequest(request.getUrl(), request)
+                .header("Content-Type", FORM_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(request.getParameters()))
+                .build()
+        );
+    }
+
+    @Override
+    public Response executeDelete(Request request) throws IOException {
+        return execute(newRequest(request.getFullUrl(), request).DELETE().build());
+    }
+
+    /**
+     * The requestor is shared by many clients so it does not keep the debug headers of the last response.
+     *
+     * @return always {@code null}
+     */
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return null;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    private HttpRequest.Builder newRequest(String url, Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(readTimeout);
+
+        if (request.hasHeaderAccessToken()) {
+            builder.header("Authorization", "Bearer " + request.getHeaderAccessToken());
+        }
+
+        return builder;
+    }
+
+    private Response execute(HttpRequest request) throws IOException {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return new FacebookResponse(response.statusCode(), response.body(), response.headers().map());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.method() + " " + request.uri().getPath());
+        }
+    }
+
+    private static void setPropertyIfMissing(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+}
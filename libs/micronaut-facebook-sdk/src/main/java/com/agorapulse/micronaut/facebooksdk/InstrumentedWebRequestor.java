@@ -0,0 +1,262 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.Version;
+import com.restfb.WebRequestor;
+import com.restfb.json.Json;
+import com.restfb.json.JsonObject;
+import com.restfb.json.JsonValue;
+import com.restfb.json.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link WebRequestor} notifying the {@link FacebookRequestListener}s about every request executed by the delegate.
+ * <p>
+ * The endpoints are reported as templates with the IDs and the aliases of the nodes replaced by {@code {id}} so they
+ * are safe to be used as metric tags. The error code and subcode are only read from the error responses. The failures of the listeners
+ * are logged and never propagated to the caller.
+ */
+public class InstrumentedWebRequestor implements DelegatingWebRequestor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentedWebRequestor.class);
+
+    private static final String ID_PLACEHOLDER = "{id}";
+    private static final String AD_ACCOUNT_PREFIX = "act_";
+    private static final Set<String> ROOT_ENDPOINTS = Set.of("me", "app", "oauth", "debug_token", "search");
+
+    @FunctionalInterface
+    private interface Execution {
+        Response execute(Request request) throws IOException;
+    }
+
+    private final WebRequestor delegate;
+    private final Long applicationId;
+    private final String apiVersion;
+    private final List<FacebookRequestListener> listeners;
+
+    /**
+     * @param delegate      the requestor executing the requests
+     * @param applicationId the ID of the application creating the client
+     * @param apiVersion    the version of the API used by the client
+     * @param listeners     the listeners to be notified
+     */
+    public InstrumentedWebRequestor(WebRequestor delegate, Long applicationId, Version apiVersion, List<FacebookRequestListener> listeners) {
+        this.delegate = delegate;
+        this.applicationId = applicationId;
+        this.apiVersion = apiVersion == null || apiVersion.getUrlElement() == null || apiVersion.getUrlElement().isEmpty()
+            ? "unversioned"
+            : apiVersion.getUrlElement();
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Response executeGet(Request request) throws IOException {
+        return execute("GET", request, delegate::executeGet);
+    }
+
+    @Override
+    public Response executePost(Request request) throws IOException {
+        return execute("POST", request, delegate::executePost);
+    }
+
+    @Override
+    public Response executeDelete(Request request) throws IOException {
+        return execute("DELETE", request, delegate::executeDelete);
+    }
+
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return delegate.getDebugHeaderInfo();
+    }
+
+    @Override
+    public WebRequestor getDelegate() {
+        return delegate;
+    }
+
+    private Response execute(String method, Request request, Execution execution) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Response response = execution.execute(request);
+            publish(method, request, start, response, null);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            publish(method, request, start, null, e);
+            throw e;
+        }
+    }
+
+    private void publish(String method, Request request, long start, Response response, Throwable exception) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        int statusCode = response == null || response.getStatusCode() == null ? -1 : response.getStatusCode();
+        String body = response == null ? null : response.getBody();
+
+        Integer errorCode = null;
+        Integer errorSubcode = null;
+
+        if (statusCode >= 400 && body != null) {
+            JsonObject error = readError(body);
+            if (error != null) {
+                errorCode = readInt(error, "code");
+                errorSubcode = readInt(error, "error_subcode");
+            }
+        }
+
+        FacebookRequestEvent event = new FacebookRequestEvent(
+            applicationId,
+            method,
+            endpoint(request.getUrl()),
+            apiVersion,
+            statusCode,
+            duration,
+            body == null ? 0 : body.length(),
+            errorCode,
+            errorSubcode,
+            exception
+        );
+
+        for (FacebookRequestListener listener : listeners) {
+            try {
+                listener.onRequest(event);
+            } catch (RuntimeException e) {
+                // the listeners must never change the outcome of the request
+                LOGGER.warn("Facebook request listener {} failed", listener, e);
+            }
+        }
+    }
+
+    /**
+     * Turns the request URL into the endpoint template, e.g. {@code https://graph.facebook.com/v23.0/1234/feed?limit=10}
+     * into {@code /{id}/feed}. The nodes referenced by their aliases, e.g. {@code /cocacola/feed}, are replaced by
+     * {@code {id}} as well, only {@code me}, {@code app} and the root endpoints such as {@code oauth} or {@code debug_token}
+     * are kept.
+     *
+     * @param url the request URL
+     * @return the endpoint template
+     */
+    static String endpoint(String url) {
+        if (url == null) {
+            return "/";
+        }
+
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0) {
+            return "/";
+        }
+
+        int end = url.indexOf('?', start);
+        String path = end < 0 ? url.substring(start) : url.substring(start, end);
+
+        StringBuilder endpoint = new StringBuilder(path.length());
+        int segmentIndex = 0;
+
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segmentIndex++ == 0 && isVersion(segment)) {
+                continue;
+            }
+
+            endpoint.append('/');
+
+            if (isId(segment, 0)) {
+                endpoint.append(ID_PLACEHOLDER);
+            } else if (segment.startsWith(AD_ACCOUNT_PREFIX) && isId(segment, AD_ACCOUNT_PREFIX.length())) {
+                endpoint.append(AD_ACCOUNT_PREFIX).append(ID_PLACEHOLDER);
+            } else if (endpoint.length() == 1 && !ROOT_ENDPOINTS.contains(segment)) {
+                // the node is referenced by its alias, e.g. the username of the page
+                endpoint.append(ID_PLACEHOLDER);
+            } else {
+                endpoint.append(segment);
+            }
+        }
+
+        return endpoint.length() == 0 ? "/" : endpoint.toString();
+    }
+
+    private static boolean isVersion(String segment) {
+        if (segment.length() < 2 || segment.charAt(0) != 'v' || !Character.isDigit(segment.charAt(1))) {
+            return false;
+        }
+        for (int i = 2; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (!Character.isDigit(c) && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the segment is a numeric ID or a compound ID such as {@code 123_456}
+     */
+    private static boolean isId(String segment, int from) {
+        if (segment.length() <= from) {
+            return false;
+        }
+        for (int i = from; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (!Character.isDigit(c) && (c != '_' || i == from)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static JsonObject readError(String body) {
+        try {
+            JsonValue value = Json.parse(body);
+            if (!value.isObject()) {
+                return null;
+            }
+            JsonValue error = value.asObject().get("error");
+            return error != null && error.isObject() ? error.asObject() : null;
+        } catch (ParseException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    static Integer readInt(JsonObject object, String name) {
+        JsonValue value = object.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return value.asInt();
+        }
+        if (value.isString()) {
+            try {
+                return Integer.valueOf(value.asString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the statistics of the client caches of the {@link DefaultFacebookApplication} beans tagged with {@code app}:
+ * <ul>
+ *     <li>{@value #SIZE} gauge of the number of the cached clients</li>
+ *     <li>{@value #GETS} counter of the cache lookups also tagged with the {@code result}, {@code hit} or {@code miss}</li>
+ *     <li>{@value #EVICTIONS} counter of the evicted and expired clients</li>
+ * </ul>
+ * The bean is only created if Micrometer is on the classpath and a {@link MeterRegistry} exists.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+public class MicrometerFacebookClientCacheBinder implements BeanCreatedEventListener<FacebookApplication> {
+
+    public static final String SIZE = "facebook.sdk.client.cache.size";
+    public static final String GETS = "facebook.sdk.client.cache.gets";
+    public static final String EVICTIONS = "facebook.sdk.client.cache.evictions";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    public MicrometerFacebookClientCacheBinder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public FacebookApplication onCreated(BeanCreatedEvent<FacebookApplication> event) {
+        FacebookApplication application = event.getBean();
+        if (application instanceof DefaultFacebookApplication defaultApplication) {
+            defaultApplication.getClientCache().ifPresent(cache -> bind(cache, application.getConfiguration().getId()));
+        }
+        return application;
+    }
+
+    void bind(FacebookClientCache cache, Long applicationId) {
+        Tags tags = Tags.of("app", applicationId == null ? NONE : String.valueOf(applicationId));
+
+        Gauge.builder(SIZE, cache, FacebookClientCache::size)
+            .description("Number of the cached Facebook clients")
+            .tags(tags)
+            .register(registry);
+
+        FunctionCounter.builder(GETS, cache, FacebookClientCache::getHitCount)
+            .description("Lookups of the cached Facebook clients")
+            .tags(tags)
+            .tag("result", "hit")
+            .register(registry);
+
+        FunctionCounter.builder(GETS, cache, FacebookClientCache::getMissCount)
+            .description("Lookups of the cached Facebook clients")
+            .tags(tags)
+            .tag("result", "miss")
+            .register(registry);
+
+        FunctionCounter.builder(EVICTIONS, cache, FacebookClientCache::getEvictionCount)
+            .description("Evicted and expired Facebook clients")
+            .tags(tags)
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Records the Graph API calls into the Micrometer {@link MeterRegistry}.
+ * <p>
+ * The following meters are recorded, all tagged with {@code app}, {@code method}, {@code endpoint} and {@code version}:
+ * <ul>
+ *     <li>{@value #REQUESTS} timer also tagged with {@code status}, {@code error.code} and {@code error.subcode}</li>
+ *     <li>{@value #RESPONSE_SIZE} summary of the response body sizes in characters</li>
+ *     <li>{@value #ERRORS} counter of the failed requests also tagged with {@code error.code} and {@code error.subcode}</li>
+ *     <li>{@value #RETRIES} counter of the retries also tagged with the {@code reason} of the retry</li>
+ *     <li>{@value #RETRIED} counter of the retried requests also tagged with the {@code outcome}, {@code recovered} or {@code exhausted}</li>
+ * </ul>
+ * The bean is only created if Micrometer is on the classpath and a {@link MeterRegistry} exists.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+public class MicrometerFacebookRequestListener implements FacebookRequestListener {
+
+    public static final String REQUESTS = "facebook.sdk.requests";
+    public static final String RESPONSE_SIZE = "facebook.sdk.response.size";
+    public static final String ERRORS = "facebook.sdk.errors";
+    public static final String RETRIES = "facebook.sdk.retries";
+    public static final String RETRIED = "facebook.sdk.retried";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    public MicrometerFacebookRequestListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequest(FacebookRequestEvent event) {
+        Tags tags = Tags.of(
+            "app", event.getApplicationId() == null ? NONE : String.valueOf(event.getApplicationId()),
+            "method", event.getMethod(),
+            "endpoint", event.getEndpoint(),
+            "version", event.getApiVersion()
+        );
+
+        Tags errorTags = Tags.of(
+            "error.code", event.getErrorCode() == null ? errorType(event) : String.valueOf(event.getErrorCode()),
+            "error.subcode", event.getErrorSubcode() == null ? NONE : String.valueOf(event.getErrorSubcode())
+        );
+
+        Timer.builder(REQUESTS)
+            .description("Graph API calls")
+            .tags(tags)
+            .tags(errorTags)
+            .tag("status", event.getStatusCode() < 0 ? "IO_ERROR" : String.valueOf(event.getStatusCode()))
+            .register(registry)
+            .record(event.getDuration());
+
+        if (event.getException() == null) {
+            DistributionSummary.builder(RESPONSE_SIZE)
+                .description("Sizes of the Graph API responses")
+                .baseUnit("characters")
+                .tags(tags)
+                .register(registry)
+                .record(event.getResponseSize());
+        }
+
+        if (!event.isSuccessful()) {
+            Counter.builder(ERRORS)
+                .description("Failed Graph API calls")
+                .tags(tags)
+                .tags(errorTags)
+                .register(registry)
+                .increment();
+        }
+    }
+
+    @Override
+    public void onRetry(FacebookRetryEvent event) {
+        Tags tags = Tags.of(
+            "app", event.getApplicationId() == null ? NONE : String.valueOf(event.getApplicationId()),
+            "method", event.getMethod(),
+            "endpoint", event.getEndpoint()
+        );
+
+        if (event.getType() == FacebookRetryEvent.Type.RETRY) {
+            Counter.builder(RETRIES)
+                .description("Retries of the failed Graph API calls")
+                .tags(tags)
+                .tag("reason", event.getReason())
+                .register(registry)
+                .increment();
+            return;
+        }
+
+        Counter.builder(RETRIED)
+            .description("Retried Graph API calls")
+            .tags(tags)
+            .tag("outcome", event.getType() == FacebookRetryEvent.Type.RECOVERED ? "recovered" : "exhausted")
+            .register(registry)
+            .increment();
+    }
+
+    private static String errorType(FacebookRequestEvent event) {
+        return event.getException() == null ? NONE : event.getException().getClass().getSimpleName();
+    }
+
+}
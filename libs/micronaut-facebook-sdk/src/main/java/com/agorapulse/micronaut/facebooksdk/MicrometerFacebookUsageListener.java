@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.context.annotation.Requires;
+
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exposes the last rate limit usage reported by the Graph API as the {@value #USAGE} gauge tagged with {@code app},
+ * {@code type}, {@code id} and {@code use.case}.
+ * <p>
+ * The bean is only created if Micrometer is on the classpath and a {@link MeterRegistry} exists.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+public class MicrometerFacebookUsageListener implements FacebookUsageListener {
+
+    public static final String USAGE = "facebook.sdk.usage";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicReference<FacebookUsage>> usages = new ConcurrentHashMap<>();
+
+    public MicrometerFacebookUsageListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onUsage(FacebookUsage usage) {
+        Tags tags = Tags.of(
+            "app", usage.getApplicationId() == null ? NONE : String.valueOf(usage.getApplicationId()),
+            "type", usage.getType().name(),
+            "id", usage.getId() == null ? NONE : usage.getId(),
+            "use.case", usage.getUseCase() == null ? NONE : usage.getUseCase()
+        );
+
+        usages.computeIfAbsent(tags, t -> {
+            AtomicReference<FacebookUsage> holder = new AtomicReference<>(usage);
+            Gauge.builder(USAGE, holder, h -> h.get().getPercentage())
+                .description("Rate limit usage reported by the Graph API")
+                .baseUnit("percent")
+                .tags(t)
+                .register(registry);
+            return holder;
+        }).set(usage);
+    }
+
+}
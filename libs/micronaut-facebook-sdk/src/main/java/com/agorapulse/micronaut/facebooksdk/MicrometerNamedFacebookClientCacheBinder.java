@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the statistics of the client caches of the {@link NamedFacebookApplication} beans the same way as
+ * {@link MicrometerFacebookClientCacheBinder} does for the default application.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+public class MicrometerNamedFacebookClientCacheBinder implements BeanCreatedEventListener<NamedFacebookApplication> {
+
+    private final MicrometerFacebookClientCacheBinder binder;
+
+    public MicrometerNamedFacebookClientCacheBinder(MicrometerFacebookClientCacheBinder binder) {
+        this.binder = binder;
+    }
+
+    @Override
+    public NamedFacebookApplication onCreated(BeanCreatedEvent<NamedFacebookApplication> event) {
+        NamedFacebookApplication application = event.getBean();
+        application.getClientCache().ifPresent(cache -> binder.bind(cache, application.getConfiguration().getId()));
+        return application;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2025 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.FacebookClient;
+import com.restfb.Version;
+import com.restfb.WebRequestor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Creates the clients of one of the named applications declared as {@code facebook.sdk.apps.<name>}.
+ * <p>
+ * The clients are created the same way as the ones of {@link DefaultFacebookApplication} using the settings of the named
+ * application such as the client cache, the throttling, the retries, the circuit breaker and the asynchronous concurrency limit.
+ * It does not implement {@link FacebookApplication} whose configuration is always the default {@link FacebookApplicationConfiguration}.
+ */
+public class NamedFacebookApplication {
+
+    private final NamedFacebookApplicationConfiguration configuration;
+    private final FacebookClientProvider clients;
+
+    public NamedFacebookApplication(NamedFacebookApplicationConfiguration configuration) {
+        this(configuration, null, Collections.emptyList(), null);
+    }
+
+    /**
+     * @param configuration    named application configuration
+     * @param webRequestor     the requestor shared by all the clients or {@code null} to let each client create its own
+     * @param requestListeners the listeners notified about every request made by the clients
+     * @param usageTracker     the tracker of the rate limit usage or {@code null} to disable the tracking and the throttling,
+     *                         the usage is only tracked if the throttling is enabled or the tracker has any listeners
+     */
+    public NamedFacebookApplication(
+        NamedFacebookApplicationConfiguration configuration,
+        WebRequestor webRequestor,
+        List<FacebookRequestListener> requestListeners,
+        FacebookUsageTracker usageTracker
+    ) {
+        this.configuration = configuration;
+        this.clients = new FacebookClientProvider(configuration, webRequestor, requestListeners, usageTracker);
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @return a Facebook Graph API client with API version from the configuration.
+     */
+    public FacebookClient createClient(String accessToken) {
+        return createClient(accessToken, configuration.getSecret(), configuration.getApiVersion());
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @param apiVersion  Version of the api endpoint
+     * @return a Facebook Graph API client with the given {@code accessToken}.
+     */
+    public FacebookClient createClient(String accessToken, Version apiVersion) {
+        return createClient(accessToken, configuration.getSecret(), apiVersion);
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @param appSecret   A Facebook application secret.
+     * @param apiVersion  Version of the api endpoint
+     * @return a Facebook Graph API client with the given {@code accessToken}.
+     */
+    public FacebookClient createClient(String accessToken, String appSecret, Version apiVersion) {
+        return clients.createClient(accessToken, appSecret, apiVersion);
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @return an asynchronous Facebook Graph API client with API version from the configuration.
+     */
+    public AsyncFacebookClient createAsyncClient(String accessToken) {
+        return createAsyncClient(accessToken, configuration.getSecret(), configuration.getApiVersion());
+    }
+
+    /**
+     * @param accessToken A Facebook OAuth access token.
+     * @param appSecret   A Facebook application secret.
+     * @param apiVersion  Version of the api endpoint
+     * @return an asynchronous Facebook Graph API client sharing the concurrency limit with all the other asynchronous clients of the application.
+     */
+    public AsyncFacebookClient createAsyncClient(String accessToken, String appSecret, Version apiVersion) {
+        return clients.createAsyncClient(accessToken, appSecret, apiVersion);
+    }
+
+    /**
+     * @return the cache of the clients if enabled using {@link AbstractFacebookApplicationConfiguration#getClientCacheSize()}
+     */
+    public Optional<FacebookClientCache> getClientCache() {
+        return clients.getClientCache();
+    }
+
+    /**
+     * @return the circuit breaker shared by all the clients if enabled using {@link AbstractFacebookApplicationConfiguration#getCircuitBreakerWindowSize()}
+     */
+    public Optional<FacebookCircuitBreaker> getCircuitBreaker() {
+        return clients.getCircuitBreaker();
+    }
+
+    /**
+     * @return named application configuration
+     */
+    public NamedFacebookApplicationConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return the name of the application
+     */
+    public String getName() {
+        return configuration.getName();
+    }
+
+    @Override
+    public String toString() {
+        return "NamedFacebookApplication[name:'" + configuration.getName() + "', id:" + configuration.getId() + "]";
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.WebRequestor;
+import com.restfb.json.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link WebRequestor} retrying the transient failures of the delegate according to the {@link FacebookRetryPolicy}.
+ * <p>
+ * The error responses with the retryable error code, the {@code 5xx} responses without the error code and
+ * the {@link IOException}s such as socket timeouts are retried. If the last attempt fails, its response is returned
+ * so restfb throws the usual exception, or the last {@link IOException} is rethrown. The
+ * {@link FacebookRequestListener}s are notified about each retry and about the final outcome of the retried request.
+ * Their failures are logged and never change the outcome of the request.
+ */
+public class RetryingWebRequestor implements DelegatingWebRequestor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryingWebRequestor.class);
+
+    @FunctionalInterface
+    private interface Execution {
+        Response execute(Request request) throws IOException;
+    }
+
+    private final WebRequestor delegate;
+    private final Long applicationId;
+    private final FacebookRetryPolicy policy;
+    private final List<FacebookRequestListener> listeners;
+
+    /**
+     * @param delegate      the requestor executing the requests
+     * @param applicationId the ID of the application creating the client
+     * @param policy        the retry policy
+     * @param listeners     the listeners to be notified about the retries
+     */
+    public RetryingWebRequestor(WebRequestor delegate, Long applicationId, FacebookRetryPolicy policy, List<FacebookRequestListener> listeners) {
+        this.delegate = delegate;
+        this.applicationId = applicationId;
+        this.policy = policy;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Response executeGet(Request request) throws IOException {
+        return execute("GET", request, delegate::executeGet);
+    }
+
+    @Override
+    public Response executePost(Request request) throws IOException {
+        return execute("POST", request, delegate::executePost);
+    }
+
+    @Override
+    public Response executeDelete(Request request) throws IOException {
+        return execute("DELETE", request, delegate::executeDelete);
+    }
+
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return delegate.getDebugHeaderInfo();
+    }
+
+    @Override
+    public WebRequestor getDelegate() {
+        return delegate;
+    }
+
+    public FacebookRetryPolicy getPolicy() {
+        return policy;
+    }
+
+    private Response execute(String method, Request request, Execution execution) throws IOException {
+        if (!policy.isRetryable(method)) {
+            return execution.execute(request);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            String reason;
+
+            try {
+                response = execution.execute(request);
+                reason = failureReason(response);
+            } catch (IOException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                failure = e;
+                reason = e.getClass().getSimpleName();
+            }
+
+            if (reason == null) {
+                if (attempt > 1) {
+                    publish(FacebookRetryEvent.Type.RECOVERED, method, request, attempt, Duration.ZERO, null);
+                }
+                return response;
+            }
+
+            if (attempt >= policy.getMaxAttempts()) {
+                publish(FacebookRetryEvent.Type.EXHAUSTED, method, request, attempt, Duration.ZERO, reason);
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+
+            Duration delay = policy.getDelay(attempt);
+            publish(FacebookRetryEvent.Type.RETRY, method, request, attempt, delay, reason);
+
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // the URL contains the access token and the secret proof
+                throw new InterruptedIOException("Interrupted while waiting to retry the request to " + InstrumentedWebRequestor.endpoint(request.getUrl()));
+            }
+        }
+    }
+
+    /**
+     * @return the reason to retry the response or {@code null} if the response should be returned
+     */
+    private String failureReason(Response response) {
+        int statusCode = response.getStatusCode() == null ? -1 : response.getStatusCode();
+        if (statusCode < 400) {
+            return null;
+        }
+
+        Integer errorCode = null;
+        if (response.getBody() != null) {
+            JsonObject error = InstrumentedWebRequestor.readError(response.getBody());
+            if (error != null) {
+                errorCode = InstrumentedWebRequestor.readInt(error, "code");
+            }
+        }
+
+        if (!policy.isRetryable(statusCode, errorCode)) {
+            return null;
+        }
+
+        return errorCode == null ? "HTTP_" + statusCode : String.valueOf(errorCode);
+    }
+
+    private static boolean isRetryable(IOException e) {
+        // interrupted by the caller, not by the timeout
+        return !(e instanceof InterruptedIOException) || e instanceof SocketTimeoutException;
+    }
+
+    private void publish(FacebookRetryEvent.Type type, String method, Request request, int attempt, Duration delay, String reason) {
+        FacebookRetryEvent event = new FacebookRetryEvent(
+            type,
+            applicationId,
+            method,
+            InstrumentedWebRequestor.endpoint(request.getUrl()),
+            attempt,
+            delay,
+            reason
+        );
+
+        for (FacebookRequestListener listener : listeners) {
+            try {
+                listener.onRetry(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Facebook request listener {} failed", listener, e);
+            }
+        }
+    }
+
+}
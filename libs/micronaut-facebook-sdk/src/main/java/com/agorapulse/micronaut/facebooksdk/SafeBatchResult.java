@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.batch.BatchRequest;
+import com.restfb.batch.BatchResponse;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of {@link FacebookExtensions#safeBatchAsync(com.restfb.FacebookClient, List, List, int)}.
+ * <p>
+ * The responses are kept in the order of the requests. If a whole chunk of requests failed, the responses for the
+ * requests of the chunk are {@code null} and the failure is reported in {@link #getFailures()}.
+ */
+public class SafeBatchResult {
+
+    /**
+     * Failure of a single chunk of batch requests.
+     */
+    public static class Failure {
+
+        private final int fromIndex;
+        private final List<BatchRequest> requests;
+        private final Throwable cause;
+
+        public Failure(int fromIndex, List<BatchRequest> requests, Throwable cause) {
+            this.fromIndex = fromIndex;
+            this.requests = requests;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the index of the first request of the failed chunk
+         */
+        public int getFromIndex() {
+            return fromIndex;
+        }
+
+        /**
+         * @return the requests of the failed chunk
+         */
+        public List<BatchRequest> getRequests() {
+            return requests;
+        }
+
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "SafeBatchResult.Failure[fromIndex:" + fromIndex + ", requests:" + requests.size() + ", cause:" + cause + "]";
+        }
+
+    }
+
+    private final List<BatchResponse> responses;
+    private final List<Failure> failures;
+
+    public SafeBatchResult(List<BatchResponse> responses, List<Failure> failures) {
+        this.responses = Collections.unmodifiableList(responses);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the responses in the order of the requests, {@code null} for the requests from the failed chunks
+     */
+    public List<BatchResponse> getResponses() {
+        return responses;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SafeBatchResult[responses:" + responses.size() + ", failures:" + failures + "]";
+    }
+
+}
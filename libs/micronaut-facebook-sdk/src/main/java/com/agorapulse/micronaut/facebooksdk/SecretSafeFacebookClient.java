@@ -1,10 +1,26 @@
 package com.agorapulse.micronaut.facebooksdk;
 
+import com.restfb.AccessToken;
+import com.restfb.BinaryAttachment;
+import com.restfb.Body;
+import com.restfb.Connection;
 import com.restfb.FacebookClient;
+import com.restfb.JsonMapper;
+import com.restfb.Parameter;
+import com.restfb.WebRequestor;
+import com.restfb.batch.BatchRequest;
+import com.restfb.batch.BatchResponse;
 import com.restfb.exception.FacebookException;
+import com.restfb.exception.FacebookNetworkException;
+import com.restfb.exception.devicetoken.FacebookDeviceTokenCodeExpiredException;
+import com.restfb.exception.devicetoken.FacebookDeviceTokenDeclinedException;
+import com.restfb.exception.devicetoken.FacebookDeviceTokenPendingException;
+import com.restfb.exception.devicetoken.FacebookDeviceTokenSlowdownException;
+import com.restfb.scope.ScopeBuilder;
+import com.restfb.types.DebugTokenInfo;
+import com.restfb.types.DeviceCode;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Proxy;
+import java.util.List;
 
 /**
  * Wraps a {@link FacebookClient} so that any {@link FacebookException} it throws no longer carries the request
@@ -16,29 +32,280 @@ import java.lang.reflect.Proxy;
  * user-facing errors. Clearing the {@code InfoData} neutralises the leak at the source while keeping the Facebook
  * error description (type, code, subcode) intact for diagnostics.</p>
  */
-public final class SecretSafeFacebookClient {
+public final class SecretSafeFacebookClient implements FacebookClient {
 
-    private SecretSafeFacebookClient() {
+    private final FacebookClient delegate;
+
+    private SecretSafeFacebookClient(FacebookClient delegate) {
+        this.delegate = delegate;
     }
 
     public static FacebookClient wrap(FacebookClient delegate) {
-        return (FacebookClient) Proxy.newProxyInstance(
-                SecretSafeFacebookClient.class.getClassLoader(),
-                new Class<?>[]{FacebookClient.class},
-                (proxy, method, args) -> {
-                    try {
-                        return method.invoke(delegate, args);
-                    } catch (InvocationTargetException e) {
-                        Throwable cause = e.getCause();
-                        throw cause != null ? stripSecrets(cause) : e;
-                    }
-                });
-    }
-
-    private static Throwable stripSecrets(Throwable thrown) {
-        if (thrown instanceof FacebookException facebookException) {
-            facebookException.withInfoData((FacebookException.InfoData) null);
+        if (delegate instanceof SecretSafeFacebookClient) {
+            return delegate;
+        }
+        return new SecretSafeFacebookClient(delegate);
+    }
+
+    @Override
+    public <T> T fetchObject(String object, Class<T> objectType, Parameter... parameters) {
+        try {
+            return delegate.fetchObject(object, objectType, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public FacebookClient createClientWithAccessToken(String accessToken) {
+        try {
+            return wrap(delegate.createClientWithAccessToken(accessToken));
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T fetchObjects(List<String> ids, Class<T> objectType, Parameter... parameters) {
+        try {
+            return delegate.fetchObjects(ids, objectType, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> Connection<T> fetchConnection(String connection, Class<T> connectionType, Parameter... parameters) {
+        try {
+            return delegate.fetchConnection(connection, connectionType, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> Connection<T> fetchConnectionPage(String connectionPageUrl, Class<T> connectionType) {
+        try {
+            return delegate.fetchConnectionPage(connectionPageUrl, connectionType);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public List<BatchResponse> executeBatch(BatchRequest... batchRequests) {
+        try {
+            return delegate.executeBatch(batchRequests);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public List<BatchResponse> executeBatch(List<BatchRequest> batchRequests) {
+        try {
+            return delegate.executeBatch(batchRequests);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public List<BatchResponse> executeBatch(List<BatchRequest> batchRequests, List<BinaryAttachment> binaryAttachments) {
+        try {
+            return delegate.executeBatch(batchRequests, binaryAttachments);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T publish(String connection, Class<T> objectType, Parameter... parameters) {
+        try {
+            return delegate.publish(connection, objectType, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T publish(String connection, Class<T> objectType, List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
+        try {
+            return delegate.publish(connection, objectType, binaryAttachments, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T publish(String connection, Class<T> objectType, BinaryAttachment binaryAttachment, Parameter... parameters) {
+        try {
+            return delegate.publish(connection, objectType, binaryAttachment, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T publish(String connection, Class<T> objectType, Body body, Parameter... parameters) {
+        try {
+            return delegate.publish(connection, objectType, body, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public boolean deleteObject(String object, Parameter... parameters) {
+        try {
+            return delegate.deleteObject(object, parameters);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public List<AccessToken> convertSessionKeysToAccessTokens(String appId, String secretKey, String... sessionKeys) {
+        try {
+            return delegate.convertSessionKeysToAccessTokens(appId, secretKey, sessionKeys);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public AccessToken obtainUserAccessToken(String appId, String appSecret, String redirectUri, String verificationCode) {
+        try {
+            return delegate.obtainUserAccessToken(appId, appSecret, redirectUri, verificationCode);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
         }
+    }
+
+    @Override
+    public AccessToken obtainAppAccessToken(String appId, String appSecret) {
+        try {
+            return delegate.obtainAppAccessToken(appId, appSecret);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public AccessToken obtainExtendedAccessToken(String appId, String appSecret, String accessToken) {
+        try {
+            return delegate.obtainExtendedAccessToken(appId, appSecret, accessToken);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public String obtainAppSecretProof(String accessToken, String appSecret) {
+        try {
+            return delegate.obtainAppSecretProof(accessToken, appSecret);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public AccessToken obtainExtendedAccessToken(String appId, String appSecret) {
+        try {
+            return delegate.obtainExtendedAccessToken(appId, appSecret);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public AccessToken obtainRefreshedExtendedAccessToken() {
+        try {
+            return delegate.obtainRefreshedExtendedAccessToken();
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public <T> T parseSignedRequest(String signedRequest, String appSecret, Class<T> objectType) {
+        try {
+            return delegate.parseSignedRequest(signedRequest, appSecret, objectType);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public DeviceCode fetchDeviceCode(ScopeBuilder scope) {
+        try {
+            return delegate.fetchDeviceCode(scope);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public AccessToken obtainDeviceAccessToken(String code) throws FacebookDeviceTokenCodeExpiredException,
+        FacebookDeviceTokenPendingException, FacebookDeviceTokenDeclinedException, FacebookDeviceTokenSlowdownException {
+        try {
+            return delegate.obtainDeviceAccessToken(code);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public DebugTokenInfo debugToken(String inputToken) {
+        try {
+            return delegate.debugToken(inputToken);
+        } catch (FacebookException e) {
+            throw stripSecrets(e);
+        }
+    }
+
+    @Override
+    public JsonMapper getJsonMapper() {
+        return delegate.getJsonMapper();
+    }
+
+    @Override
+    public WebRequestor getWebRequestor() {
+        return delegate.getWebRequestor();
+    }
+
+    @Override
+    public String getLogoutUrl(String next) {
+        return delegate.getLogoutUrl(next);
+    }
+
+    @Override
+    public String getLoginDialogUrl(String appId, String redirectUri, ScopeBuilder scope, String state, Parameter... parameters) {
+        return delegate.getLoginDialogUrl(appId, redirectUri, scope, state, parameters);
+    }
+
+    @Override
+    public String getLoginDialogUrl(String appId, String redirectUri, ScopeBuilder scope, Parameter... parameters) {
+        return delegate.getLoginDialogUrl(appId, redirectUri, scope, parameters);
+    }
+
+    @Override
+    public String getBusinessLoginDialogUrl(String appId, String redirectUri, String configId, String state, Parameter... parameters) {
+        return delegate.getBusinessLoginDialogUrl(appId, redirectUri, configId, state, parameters);
+    }
+
+    @Override
+    public boolean isAppSecretProofWithTime() {
+        return delegate.isAppSecretProofWithTime();
+    }
+
+    private static FacebookException stripSecrets(FacebookException thrown) {
+        if (thrown instanceof FacebookNetworkException && thrown.getCause() instanceof FacebookCircuitBreakerOpenException open) {
+            // restfb wraps every exception thrown by the web requestor
+            return open;
+        }
+        thrown.withInfoData((FacebookException.InfoData) null);
         return thrown;
     }
+
 }
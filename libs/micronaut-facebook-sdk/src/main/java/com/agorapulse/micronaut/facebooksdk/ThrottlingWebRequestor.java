@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk;
+
+import com.restfb.DebugHeaderInfo;
+import com.restfb.WebRequestor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link WebRequestor} feeding the {@link FacebookUsageTracker} from the response headers and optionally slowing down
+ * the requests as the usage reported to the application nears the limit.
+ * <p>
+ * Every request is limited by the usage of the application. The usage of a business or an ad account only limits
+ * the requests whose URL contains the ID of the same business or ad account, so a busy ad account does not slow down
+ * the requests made for the other ones.
+ * <p>
+ * Below the threshold the requests are executed immediately. Above the threshold each request waits for a delay
+ * growing linearly with the usage up to the maximum delay at 100%. If the limit has already been reached, the request
+ * waits for the time to regain access reported by Facebook, at most for the maximum delay.
+ * <p>
+ * The response headers are only available if the delegate returns {@link FacebookResponse}, such as
+ * {@link HttpClientWebRequestor} and {@link HeaderAwareWebRequestor} do.
+ */
+public class ThrottlingWebRequestor implements DelegatingWebRequestor {
+
+    @FunctionalInterface
+    private interface Execution {
+        Response execute(Request request) throws IOException;
+    }
+
+    private final WebRequestor delegate;
+    private final Long applicationId;
+    private final FacebookUsageTracker tracker;
+    private final int threshold;
+    private final Duration maxDelay;
+
+    /**
+     * Creates requestor which only tracks the usage.
+     *
+     * @param delegate      the requestor executing the requests
+     * @param applicationId the ID of the application creating the client
+     * @param tracker       the usage tracker
+     */
+    public ThrottlingWebRequestor(WebRequestor delegate, Long applicationId, FacebookUsageTracker tracker) {
+        this(delegate, applicationId, tracker, 100, Duration.ZERO);
+    }
+
+    /**
+     * @param delegate      the requestor executing the requests
+     * @param applicationId the ID of the application creating the client
+     * @param tracker       the usage tracker
+     * @param threshold     the usage percentage when the requests start to be delayed
+     * @param maxDelay      the maximum delay of a single request, {@link Duration#ZERO} disables the throttling
+     */
+    public ThrottlingWebRequestor(WebRequestor delegate, Long applicationId, FacebookUsageTracker tracker, int threshold, Duration maxDelay) {
+        if (threshold < 0 || threshold > 100) {
+            throw new IllegalArgumentException("Threshold must be between 0 and 100 but was " + threshold);
+        }
+        this.delegate = delegate;
+        this.applicationId = applicationId;
+        this.tracker = tracker;
+        this.threshold = threshold;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public Response executeGet(Request request) throws IOException {
+        return execute(request, delegate::executeGet);
+    }
+
+    @Override
+    public Response executePost(Request request) throws IOException {
+        return execute(request, delegate::executePost);
+    }
+
+    @Override
+    public Response executeDelete(Request request) throws IOException {
+        return execute(request, delegate::executeDelete);
+    }
+
+    @Override
+    public DebugHeaderInfo getDebugHeaderInfo() {
+        return delegate.getDebugHeaderInfo();
+    }
+
+    @Override
+    public WebRequestor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the delay of the next request based on the current usage of the application
+     */
+    public Duration getDelay() {
+        return getDelay(null);
+    }
+
+    /**
+     * @param url the URL of the request
+     * @return the delay of the next request to the given URL based on the current usage of the application and of
+     * the business or the ad account the request is made for
+     */
+    public Duration getDelay(String url) {
+        if (maxDelay.isZero() || maxDelay.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        Optional<FacebookUsage> usage = tracker.getMaxUsage(applicationId, url);
+        if (usage.isEmpty() || usage.get().getPercentage() < threshold) {
+            return Duration.ZERO;
+        }
+
+        int percentage = usage.get().getPercentage();
+        if (percentage >= 100) {
+            Duration regain = usage.get().getTimeToRegainAccess();
+            return regain.isZero() || regain.compareTo(maxDelay) > 0 ? maxDelay : regain;
+        }
+
+        // linear between the threshold and 100%, at least one step above the threshold
+        return maxDelay.multipliedBy(percentage - threshold + 1).dividedBy(100 - threshold + 1);
+    }
+
+    private Response execute(Request request, Execution execution) throws IOException {
+        Duration delay = getDelay(request.getUrl());
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // the URL contains the access token and the secret proof
+                throw new InterruptedIOException("Interrupted while throttling the request to " + InstrumentedWebRequestor.endpoint(request.getUrl()));
+            }
+        }
+
+        Response response = execution.execute(request);
+
+        if (response instanceof FacebookResponse facebookResponse) {
+            tracker.update(applicationId, request.getUrl(), name -> facebookResponse.getHeader(name).orElse(null));
+        }
+
+        return response;
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.FacebookClient
+import com.restfb.Parameter
+import com.restfb.batch.BatchRequest
+import com.restfb.batch.BatchResponse
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.types.FacebookType
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Semaphore
+import java.util.concurrent.atomic.AtomicInteger
+
+@CompileDynamic
+class AsyncFacebookClientSpec extends Specification {
+
+    FacebookClient client = Mock()
+
+    void 'calls are executed on virtual threads'() {
+        given:
+            AsyncFacebookClient async = new AsyncFacebookClient(client)
+            boolean virtual = false
+        when:
+            Page page = async.fetchObject('1234', Page, Parameter.with('fields', 'id')).get()
+            FacebookType published = async.publish('1234/feed', FacebookType, Parameter.with('message', 'Hello')).get()
+            boolean deleted = async.deleteObject('1234_5678').get()
+            List<BatchResponse> responses = async.executeBatch(new BatchRequest.BatchRequestBuilder('me').build()).get()
+        then:
+            1 * client.fetchObject('1234', Page, _) >> {
+                virtual = Thread.currentThread().virtual
+                new Page(id: '1234')
+            }
+            1 * client.publish('1234/feed', FacebookType, _) >> new FacebookType(id: '1234_5678')
+            1 * client.deleteObject('1234_5678') >> true
+            1 * client.executeBatch(_, []) >> [new BatchResponse(200, [], '{}')]
+
+            virtual
+            page.id == '1234'
+            published.id == '1234_5678'
+            deleted
+            responses.size() == 1
+    }
+
+    void 'calls are executed on virtual threads named uniquely'() {
+        given:
+            AsyncFacebookClient async = new AsyncFacebookClient(client)
+            List<String> threads = []
+        when:
+            async.fetchObject('1', Page).get()
+            async.fetchObject('2', Page).get()
+        then:
+            2 * client.fetchObject(_, Page, _) >> {
+                threads << Thread.currentThread().name
+                new Page(id: '1')
+            }
+
+            threads.every { it.startsWith('facebook-async-client-') }
+            threads[0] != threads[1]
+    }
+
+    void 'failures complete the future exceptionally'() {
+        when:
+            new AsyncFacebookClient(client).fetchObject('me', Page).get()
+        then:
+            1 * client.fetchObject('me', Page) >> {
+                throw new FacebookOAuthException('OAuthException', 'Error validating access token', 190, null, 400, null, null, null, null)
+            }
+
+            ExecutionException e = thrown(ExecutionException)
+            e.cause instanceof FacebookOAuthException
+    }
+
+    void 'concurrency is limited by the shared permits'() {
+        given:
+            Semaphore permits = new Semaphore(3, true)
+            AsyncFacebookClient first = new AsyncFacebookClient(client, null, permits)
+            AsyncFacebookClient second = new AsyncFacebookClient(client, null, permits)
+            AtomicInteger inFlight = new AtomicInteger()
+            AtomicInteger maxInFlight = new AtomicInteger()
+        when:
+            List<CompletableFuture<Page>> pages = (1..20).collect {
+                (it % 2 ? first : second).fetchObject(String.valueOf(it), Page)
+            }
+            CompletableFuture.allOf(pages as CompletableFuture[]).join()
+        then:
+            20 * client.fetchObject(_, Page) >> { String id, Class type, Parameter[] params ->
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> Math.max(a, b) }
+                Thread.sleep(20)
+                inFlight.decrementAndGet()
+                return new Page(id: id)
+            }
+
+            pages*.get()*.id == (1..20)*.toString()
+            maxInFlight.get() <= 3
+            permits.availablePermits() == 3
+    }
+
+    void 'cancelled calls waiting for the permit are skipped'() {
+        given:
+            AsyncFacebookClient async = AsyncFacebookClient.create(client, 1)
+            CountDownLatch started = new CountDownLatch(1)
+            CountDownLatch release = new CountDownLatch(1)
+        when:
+            CompletableFuture<Page> running = async.fetchObject('1', Page)
+            started.await()
+            CompletableFuture<Page> waiting = async.fetchObject('2', Page)
+            waiting.cancel(false)
+            release.countDown()
+        then:
+            running.get().id == '1'
+            waiting.cancelled
+
+            1 * client.fetchObject('1', Page) >> {
+                started.countDown()
+                release.await()
+                new Page(id: '1')
+            }
+            0 * client.fetchObject('2', Page)
+    }
+
+    void 'application creates the async clients'() {
+        given:
+            FacebookApplicationConfiguration configuration = new FacebookApplicationConfiguration(id: 1234L, secret: 'secret', asyncMaxConcurrency: 5)
+        when:
+            DefaultFacebookApplication application = new DefaultFacebookApplication(configuration)
+            AsyncFacebookClient async = application.createAsyncClient('token')
+        then:
+            async.client instanceof SecretSafeFacebookClient
+            async.permits.is(application.createAsyncClient('other').permits)
+            async.permits.availablePermits() == 5
+    }
+
+}
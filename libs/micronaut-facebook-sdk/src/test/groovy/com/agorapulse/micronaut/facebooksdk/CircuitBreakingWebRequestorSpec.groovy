@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.DefaultFacebookClient
+import com.restfb.DefaultJsonMapper
+import com.restfb.FacebookClient
+import com.restfb.Version
+import com.restfb.WebRequestor
+import com.restfb.batch.BatchRequest
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Duration
+
+@CompileDynamic
+class CircuitBreakingWebRequestorSpec extends Specification {
+
+    WebRequestor delegate = Mock()
+    FacebookCircuitBreaker breaker = new FacebookCircuitBreaker(1234L, 10, 2, 50, null, 100, Duration.ofMinutes(1), 1, [1, 2])
+    FacebookClient client = SecretSafeFacebookClient.wrap(
+        new DefaultFacebookClient('token', 'secret', new CircuitBreakingWebRequestor(delegate, breaker), new DefaultJsonMapper(), Version.VERSION_23_0)
+    )
+
+    void 'open circuit fails fast'() {
+        when:
+            2.times {
+                try {
+                    client.fetchObject('1234567890/feed', Page)
+                } catch (IOException | RuntimeException ignored) {
+                    // expected
+                }
+            }
+        then:
+            1 * delegate.executeGet(_) >> { throw new SocketTimeoutException('Read timed out') }
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(500, '{"error":{"message":"Service temporarily unavailable","code":2}}')
+
+            breaker.getState('feed') == FacebookCircuitBreaker.State.OPEN
+
+        when:
+            client.fetchObject('1234567890/feed', Page)
+        then:
+            0 * delegate._
+
+            FacebookCircuitBreakerOpenException e = thrown(FacebookCircuitBreakerOpenException)
+            e.family == 'feed'
+
+        when:
+            Page page = client.fetchObject('1234567890', Page)
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{"id":"1234567890"}')
+
+            page.id == '1234567890'
+    }
+
+    void 'batch requests use batch family'() {
+        when:
+            client.executeBatch(new BatchRequest.BatchRequestBuilder('me').build())
+        then:
+            1 * delegate.executePost(_) >> new WebRequestor.Response(200, '[{"code":200,"headers":[],"body":"{}"}]')
+
+            breaker.getState('batch') == FacebookCircuitBreaker.State.CLOSED
+    }
+
+    void 'family of #method #url is #family'() {
+        expect:
+            CircuitBreakingWebRequestor.family(method, url) == family
+        where:
+            method | url                                                        | family
+            'GET'  | 'https://graph.facebook.com/v23.0/123/feed?limit=10'       | 'feed'
+            'GET'  | 'https://graph.facebook.com/v23.0/me/feed'                 | 'feed'
+            'GET'  | 'https://graph.facebook.com/v23.0/cocacola/feed'           | 'feed'
+            'GET'  | 'https://graph.facebook.com/v23.0/123/insights/page_fans'  | 'page_fans'
+            'GET'  | 'https://graph.facebook.com/v23.0/123/likes/456'           | 'likes'
+            'GET'  | 'https://graph.facebook.com/v23.0/act_123/campaigns'       | 'campaigns'
+            'GET'  | 'https://graph.facebook.com/v23.0/123'                     | 'object'
+            'GET'  | 'https://graph.facebook.com/v23.0/cocacola'                | 'object'
+            'GET'  | 'https://graph.facebook.com/v23.0/me'                      | 'object'
+            'GET'  | 'https://graph.facebook.com/v23.0/?ids=1,2'                | 'object'
+            'POST' | 'https://graph.facebook.com/v23.0/'                        | 'batch'
+            'POST' | 'https://graph.facebook.com/oauth/access_token'            | 'access_token'
+    }
+
+}
@@ -21,9 +21,13 @@ import com.restfb.FacebookClient
 import com.restfb.Version
 import groovy.transform.CompileDynamic
 import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
 import spock.lang.AutoCleanup
 import spock.lang.Specification
 
+import java.net.http.HttpClient
+import java.time.Duration
+
 @CompileDynamic
 class FacebookApplicationConfigurationSpec extends Specification {
 
@@ -60,4 +64,158 @@ class FacebookApplicationConfigurationSpec extends Specification {
             application.configuration.apiVersion == Version.VERSION_18_0
     }
 
+    void 'clients share the pooled web requestor when enabled'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret',
+                    'facebook.sdk.http.enabled': 'true',
+                    'facebook.sdk.http.version': 'HTTP_1_1',
+                    'facebook.sdk.http.read-timeout': '30s',
+                    'micronaut.metrics.enabled': 'false'
+            ).build()
+            context.start()
+
+            FacebookApplication application = context.getBean(FacebookApplication)
+            HttpClientWebRequestor requestor = context.getBean(HttpClientWebRequestor)
+        expect:
+            application.createClient('one').webRequestor.is(requestor)
+            application.createClient('two').webRequestor.is(requestor)
+            requestor.httpClient.version() == HttpClient.Version.HTTP_1_1
+    }
+
+    void 'decorated clients still use the pooled web requestor'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret',
+                    'facebook.sdk.app.throttle-max-delay': '30s',
+                    'facebook.sdk.http.enabled': 'true'
+            ).build()
+            context.start()
+
+            FacebookApplication application = context.getBean(FacebookApplication)
+            HttpClientWebRequestor requestor = context.getBean(HttpClientWebRequestor)
+        expect:
+            application.createClient('one').webRequestor instanceof ThrottlingWebRequestor
+            DelegatingWebRequestor.unwrap(application.createClient('one').webRequestor).is(requestor)
+    }
+
+    void 'usage is only tracked when throttling or usage listeners are configured'() {
+        given:
+            FacebookApplicationConfiguration configuration = new FacebookApplicationConfiguration(secret: 'secret', throttleMaxDelay: maxDelay)
+            FacebookUsageTracker tracker = new FacebookUsageTracker(listeners)
+            DefaultFacebookApplication application = new DefaultFacebookApplication(configuration, null, [], tracker)
+        expect:
+            (application.createClient('token').webRequestor instanceof ThrottlingWebRequestor) == tracked
+        where:
+            maxDelay              | listeners                      | tracked
+            null                  | []                             | false
+            Duration.ZERO         | []                             | false
+            Duration.ofSeconds(1) | []                             | true
+            null                  | [{ } as FacebookUsageListener] | true
+    }
+
+    void 'pooled web requestor is disabled by default'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret'
+            ).build()
+            context.start()
+        expect:
+            !context.containsBean(HttpClientWebRequestor)
+            !(context.getBean(FacebookApplication).createClient('token').webRequestor instanceof HttpClientWebRequestor)
+    }
+
+    void 'clients are cached when enabled'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret',
+                    'facebook.sdk.app.client-cache-size': '10',
+                    'facebook.sdk.app.client-cache-ttl': '1h'
+            ).build()
+            context.start()
+
+            DefaultFacebookApplication application = context.getBean(FacebookApplication)
+        expect:
+            application.createClient('token').is(application.createClient('token'))
+            !application.createClient('token').is(application.createClient('other'))
+            application.clientCache.get().maximumSize == 10
+            application.clientCache.get().hitCount == 2
+    }
+
+    void 'clients are not cached by default'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret'
+            ).build()
+            context.start()
+
+            DefaultFacebookApplication application = context.getBean(FacebookApplication)
+        expect:
+            !application.createClient('token').is(application.createClient('token'))
+            !application.clientCache.present
+    }
+
+    void 'named applications have their own client cache'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret',
+                    'facebook.sdk.apps.other.id': '1234567890',
+                    'facebook.sdk.apps.other.secret': 'other-secret',
+                    'facebook.sdk.apps.other.client-cache-size': '5',
+                    'facebook.sdk.apps.other.client-cache-ttl': '1h'
+            ).build()
+            context.start()
+
+            NamedFacebookApplication application = context.getBean(NamedFacebookApplication, Qualifiers.byName('other'))
+        expect:
+            application.name == 'other'
+            application.configuration.id == 1234567890L
+            application.createClient('token').is(application.createClient('token'))
+            application.clientCache.get().maximumSize == 5
+
+            !context.getBean(FacebookApplication).clientCache.present
+    }
+
+    void 'named applications apply their own resilience settings'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.app.secret': 'secret',
+                    'facebook.sdk.apps.other.id': '1234567890',
+                    'facebook.sdk.apps.other.secret': 'other-secret',
+                    'facebook.sdk.apps.other.retry-max-attempts': '3',
+                    'facebook.sdk.apps.other.retry-codes': '4,17',
+                    'facebook.sdk.apps.other.throttle-max-delay': '30s',
+                    'facebook.sdk.apps.other.circuit-breaker-window-size': '10',
+                    'facebook.sdk.apps.other.async-max-concurrency': '2',
+                    'micronaut.metrics.enabled': 'false'
+            ).build()
+            context.start()
+
+            NamedFacebookApplication application = context.getBean(NamedFacebookApplication, Qualifiers.byName('other'))
+            RetryingWebRequestor retrying = application.createClient('token').webRequestor
+        expect:
+            retrying.policy.maxAttempts == 3
+            retrying.policy.retryableCodes == [4, 17] as Set
+            retrying.delegate instanceof ThrottlingWebRequestor
+            retrying.delegate.delegate instanceof CircuitBreakingWebRequestor
+            retrying.delegate.delegate.circuitBreaker.is(application.circuitBreaker.get())
+            application.circuitBreaker.get().applicationId == 1234567890L
+            application.createAsyncClient('token').permits.availablePermits() == 2
+
+            !(context.getBean(FacebookApplication).createClient('token').webRequestor instanceof DelegatingWebRequestor)
+    }
+
+    void 'named applications do not change the default application'() {
+        given:
+            context = ApplicationContext.builder(
+                    'facebook.sdk.apps.first.secret': 'first-secret',
+                    'facebook.sdk.apps.second.secret': 'second-secret'
+            ).build()
+            context.start()
+        expect:
+            context.getBeansOfType(NamedFacebookApplication)*.configuration*.secret.toSorted() == ['first-secret', 'second-secret']
+            context.getBean(NamedFacebookApplication, Qualifiers.byName('second')).configuration.secret == 'second-secret'
+            !context.containsBean(FacebookApplication)
+    }
+
 }
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+
+import static com.agorapulse.micronaut.facebooksdk.FacebookCircuitBreaker.State.CLOSED
+import static com.agorapulse.micronaut.facebooksdk.FacebookCircuitBreaker.State.HALF_OPEN
+import static com.agorapulse.micronaut.facebooksdk.FacebookCircuitBreaker.State.OPEN
+
+@CompileDynamic
+class FacebookCircuitBreakerSpec extends Specification {
+
+    private static final Duration FAST = Duration.ofMillis(10)
+
+    long now = 1_000_000
+    Clock clock = Mock {
+        millis() >> { now }
+    }
+
+    FacebookCircuitBreaker breaker = new FacebookCircuitBreaker(1234L, 10, 4, 50, Duration.ofSeconds(1), 75, Duration.ofSeconds(30), 2, [1, 2], clock)
+
+    void 'circuit opens when the failure rate is reached'() {
+        when:
+            3.times { record('feed', false) }
+            record('feed', true)
+            record('insights', true)
+        then:
+            breaker.getState('feed') == CLOSED
+
+        when:
+            record('feed', true)
+            record('feed', true)
+        then:
+            breaker.getState('feed') == OPEN
+            breaker.getState('insights') == CLOSED
+
+        when:
+            breaker.acquirePermission('feed')
+        then:
+            FacebookCircuitBreakerOpenException e = thrown(FacebookCircuitBreakerOpenException)
+            e.applicationId == 1234L
+            e.family == 'feed'
+            e.retryAfter == Duration.ofSeconds(30)
+    }
+
+    void 'circuit opens when the slow call rate is reached'() {
+        when:
+            4.times { record('insights', false, Duration.ofSeconds(2)) }
+        then:
+            breaker.getState('insights') == OPEN
+    }
+
+    void 'old calls leave the window'() {
+        when:
+            10.times { record('feed', false) }
+            4.times { record('feed', true) }
+        then:
+            breaker.getState('feed') == CLOSED
+
+        when:
+            record('feed', true)
+        then:
+            // five failures of the last ten calls
+            breaker.getState('feed') == OPEN
+    }
+
+    void 'half-open circuit probes the endpoints'() {
+        given:
+            4.times { record('feed', true) }
+        when:
+            now += 29_000
+        then:
+            breaker.getState('feed') == OPEN
+
+        when:
+            now += 1_000
+            breaker.acquirePermission('feed')
+            breaker.acquirePermission('feed')
+        then:
+            breaker.getState('feed') == HALF_OPEN
+
+        when:
+            breaker.acquirePermission('feed')
+        then:
+            FacebookCircuitBreakerOpenException e = thrown(FacebookCircuitBreakerOpenException)
+            e.retryAfter == Duration.ZERO
+
+        when:
+            breaker.onResult('feed', FAST, false)
+            breaker.onResult('feed', FAST, true)
+        then:
+            breaker.getState('feed') == OPEN
+
+        when:
+            now += 30_000
+            2.times { record('feed', false) }
+        then:
+            breaker.getState('feed') == CLOSED
+    }
+
+    void 'families over the limit share the other circuit'() {
+        given:
+            FacebookCircuitBreaker.MAX_FAMILIES.times { record("family_$it", false) }
+        when:
+            4.times { record('overflow', true) }
+        then:
+            breaker.getState('overflow') == OPEN
+            breaker.getState('another') == OPEN
+            breaker.getState(FacebookCircuitBreaker.OTHER_FAMILY) == OPEN
+            breaker.getState('family_0') == CLOSED
+            breaker.circuits.size() == FacebookCircuitBreaker.MAX_FAMILIES + 1
+    }
+
+    void 'status #status with error code #code is failure: #failure'() {
+        expect:
+            breaker.isFailure(status, code) == failure
+        where:
+            status | code | failure
+            200    | null | false
+            400    | 190  | false
+            400    | 1    | true
+            500    | 2    | true
+            503    | null | true
+    }
+
+    private void record(String family, boolean failure, Duration duration = FAST) {
+        breaker.acquirePermission(family)
+        breaker.onResult(family, duration, failure)
+    }
+
+}
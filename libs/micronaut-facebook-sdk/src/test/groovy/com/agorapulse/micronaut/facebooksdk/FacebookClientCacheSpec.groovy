@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.FacebookClient
+import com.restfb.Version
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Duration
+
+@CompileDynamic
+class FacebookClientCacheSpec extends Specification {
+
+    long now = 0
+    FacebookClientCache cache = new FacebookClientCache(2, Duration.ofMinutes(10), { now })
+
+    void 'same token reuses the client'() {
+        when:
+            FacebookClient first = cache.get('token', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+            FacebookClient second = cache.get('token', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+            FacebookClient otherVersion = cache.get('token', 'secret', Version.VERSION_19_0) { Mock(FacebookClient) }
+            FacebookClient otherSecret = cache.get('token', 'other', Version.VERSION_19_0) { Mock(FacebookClient) }
+        then:
+            first.is(second)
+            !first.is(otherVersion)
+            !otherVersion.is(otherSecret)
+            cache.hitCount == 1
+            cache.missCount == 3
+            cache.hitRate == 0.25d
+    }
+
+    void 'least recently used client is evicted'() {
+        given:
+            FacebookClient one = cache.get('one', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+            cache.get('two', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+            cache.get('one', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+        when:
+            cache.get('three', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+        then:
+            cache.size() == 2
+            cache.evictionCount == 1
+            cache.get('one', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }.is(one)
+            cache.missCount == 3
+    }
+
+    void 'expired client is created again'() {
+        given:
+            FacebookClient first = cache.get('token', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+        when:
+            now = Duration.ofMinutes(10).toNanos()
+            FacebookClient second = cache.get('token', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+        then:
+            !first.is(second)
+            cache.evictionCount == 1
+            cache.size() == 1
+    }
+
+    void 'tokens are not stored in the cache'() {
+        when:
+            cache.get('s3cr3t-token', 'secret', Version.VERSION_18_0) { Mock(FacebookClient) }
+        then:
+            !cache.entries.keySet().any { it.contains('s3cr3t-token') }
+    }
+
+}
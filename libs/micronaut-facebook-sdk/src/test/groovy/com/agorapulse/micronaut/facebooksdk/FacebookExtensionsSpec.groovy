@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.DefaultJsonMapper
+import com.restfb.FacebookClient
+import com.restfb.Parameter
+import com.restfb.batch.BatchRequest
+import com.restfb.batch.BatchResponse
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.json.JsonObject
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+@CompileDynamic
+class FacebookExtensionsSpec extends Specification {
+
+    FacebookClient client = Mock {
+        getJsonMapper() >> new DefaultJsonMapper()
+    }
+
+    void 'fetch all in parallel keeps the order of ids'() {
+        given:
+            List<String> ids = (1..95).collect { String.valueOf(it) }
+            AtomicInteger inFlight = new AtomicInteger()
+            AtomicInteger maxInFlight = new AtomicInteger()
+        when:
+            Map<String, Page> result = client.fetchAllParallel(ids, Page, [fields: 'id'], 3)
+        then:
+            5 * client.fetchObjects(_, JsonObject, _) >> { List<String> part, Class type, Parameter[] params ->
+                assert params*.name == ['fields']
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> Math.max(a, b) }
+                // the last chunk is the fastest one
+                Thread.sleep(part.size() == 15 ? 0 : 50)
+                inFlight.decrementAndGet()
+                return toJson(part)
+            }
+
+            result.keySet().toList() == ids
+            result['42'].id == '42'
+            maxInFlight.get() <= 3
+    }
+
+    void 'fetch all in parallel names the virtual threads'() {
+        given:
+            List<String> threads = []
+        when:
+            client.fetchAllParallel(['1'], Page, [:])
+            client.fetchAllParallel(['2'], Page, [:])
+        then:
+            2 * client.fetchObjects(_, JsonObject, _) >> { List<String> part, Class type, Parameter[] params ->
+                threads << Thread.currentThread().name
+                return toJson(part)
+            }
+
+            threads.every { it.startsWith('facebook-sdk-') }
+            threads[0] != threads[1]
+    }
+
+    void 'fetch all in parallel returns empty map if any of the chunks is missing'() {
+        when:
+            Map<String, Page> result = client.fetchAllParallel((1..40).collect { String.valueOf(it) }, Page, [:])
+        then:
+            2 * client.fetchObjects(_, JsonObject, _) >> { List<String> part, Class type, Parameter[] params ->
+                return part.contains('1') ? null : toJson(part)
+            }
+
+            result == [:]
+    }
+
+    void 'fetch all in parallel propagates the error'() {
+        when:
+            client.fetchAllParallel((1..40).collect { String.valueOf(it) }, Page, [:])
+        then:
+            _ * client.fetchObjects(_, JsonObject, _) >> { List<String> part, Class type, Parameter[] params ->
+                if (part.contains('21')) {
+                    throw new FacebookOAuthException('OAuthException', 'Invalid ids', 100, null, 400, null, null, null, null)
+                }
+                return toJson(part)
+            }
+
+            FacebookOAuthException e = thrown(FacebookOAuthException)
+            e.errorCode == 100
+    }
+
+    void 'safe batch async keeps the responses of successful chunks'() {
+        given:
+            List<BatchRequest> requests = (1..45).collect { new BatchRequest.BatchRequestBuilder(String.valueOf(it)).build() }
+        when:
+            SafeBatchResult result = client.safeBatchAsync(requests).get()
+        then:
+            3 * client.executeBatch(_, []) >> { List<BatchRequest> chunk, List attachments ->
+                if (chunk*.relativeUrl.contains('25')) {
+                    throw new FacebookOAuthException('OAuthException', 'Too many calls', 4, null, 400, null, null, null, null)
+                }
+                return chunk.collect { new BatchResponse(200, [], "{\"id\":\"$it.relativeUrl\"}") }
+            }
+
+            !result.successful
+            result.responses.size() == 45
+            result.responses[0].body == '{"id":"1"}'
+            result.responses[20..39].every { it == null }
+            result.responses[44].body == '{"id":"45"}'
+            result.failures.size() == 1
+            result.failures[0].fromIndex == 20
+            result.failures[0].requests.size() == 20
+            result.failures[0].cause instanceof FacebookOAuthException
+    }
+
+    void 'safe batch async requires at least one request'() {
+        when:
+            client.safeBatchAsync([])
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    private static JsonObject toJson(List<String> ids) {
+        JsonObject object = new JsonObject()
+        ids.each { object.add(it, new JsonObject().add('id', it)) }
+        return object
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.DefaultJsonMapper
+import com.restfb.FacebookClient
+import com.restfb.Parameter
+import com.restfb.exception.FacebookNetworkException
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.json.JsonObject
+import com.restfb.types.Page
+import com.restfb.types.User
+import groovy.transform.CompileDynamic
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+@CompileDynamic
+class FacebookFetchCoalescerSpec extends Specification {
+
+    @AutoCleanup FacebookFetchCoalescer coalescer = new FacebookFetchCoalescer(Duration.ofMillis(50), 3)
+
+    FacebookClient client = Mock {
+        getJsonMapper() >> new DefaultJsonMapper()
+    }
+
+    void 'fetches within the window are coalesced'() {
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [fields: 'id,name'])
+            CompletableFuture<User> second = coalescer.fetchObject(client, '2', User, [fields: 'id,name'])
+            CompletableFuture<Page> third = coalescer.fetchObject(client, '1', Page, [fields: 'id,name'])
+            CompletableFuture.allOf(first, second, third).join()
+        then:
+            first.get().name == 'Name 1'
+            second.get().name == 'Name 2'
+            third.get().name == 'Name 1'
+
+            1 * client.fetchObjects(['1', '2'], JsonObject, _) >> { List<String> ids, Class type, Parameter[] params ->
+                assert params*.name == ['fields']
+                return toJson(ids)
+            }
+    }
+
+    void 'full batch is fetched immediately'() {
+        when:
+            List<Page> pages = (1..4).collect { coalescer.fetchObject(client, String.valueOf(it), Page, [:]) }*.get()
+        then:
+            pages*.id == ['1', '2', '3', '4']
+
+            1 * client.fetchObjects(['1', '2', '3'], JsonObject, _) >> { List<String> ids, Class type, Parameter[] params -> toJson(ids) }
+            1 * client.fetchObjects(['4'], JsonObject, _) >> { List<String> ids, Class type, Parameter[] params -> toJson(ids) }
+    }
+
+    void 'different parameters are not coalesced'() {
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [fields: 'id'])
+            CompletableFuture<Page> second = coalescer.fetchObject(client, '2', Page, [fields: 'name'])
+            coalescer.flush()
+            CompletableFuture.allOf(first, second).join()
+        then:
+            first.get().id == '1'
+            second.get().id == '2'
+
+            2 * client.fetchObjects(_, JsonObject, _) >> { List<String> ids, Class type, Parameter[] params -> toJson(ids) }
+    }
+
+    void 'batches are fetched on virtual threads named uniquely'() {
+        given:
+            List<String> threads = []
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [:])
+            coalescer.flush()
+            first.join()
+            CompletableFuture<Page> second = coalescer.fetchObject(client, '2', Page, [:])
+            coalescer.flush()
+            second.join()
+        then:
+            2 * client.fetchObjects(_, JsonObject, _) >> { List<String> ids, Class type, Parameter[] params ->
+                threads << Thread.currentThread().name
+                return toJson(ids)
+            }
+
+            threads.every { it.startsWith('facebook-fetch-coalescer-') }
+            threads[0] != threads[1]
+    }
+
+    void 'rate limit failure is propagated to every caller'() {
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [:])
+            CompletableFuture<Page> second = coalescer.fetchObject(client, '2', Page, [:])
+            second.get()
+        then:
+            1 * client.fetchObjects(['1', '2'], JsonObject, _) >> {
+                throw new FacebookOAuthException('OAuthException', 'Too many calls', 4, null, 400, null, null, null, null)
+            }
+
+            ExecutionException e = thrown(ExecutionException)
+            e.cause instanceof FacebookOAuthException
+            first.completedExceptionally
+    }
+
+    void 'network failure is propagated to every caller'() {
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [:])
+            CompletableFuture<Page> second = coalescer.fetchObject(client, '2', Page, [:])
+            second.get()
+        then:
+            1 * client.fetchObjects(['1', '2'], JsonObject, _) >> {
+                throw new FacebookNetworkException(new IOException('Connection reset'))
+            }
+            0 * client.fetchObject(*_)
+
+            ExecutionException e = thrown(ExecutionException)
+            e.cause instanceof FacebookNetworkException
+            first.completedExceptionally
+    }
+
+    void 'invalid id fails only its own caller'() {
+        when:
+            CompletableFuture<Page> first = coalescer.fetchObject(client, '1', Page, [fields: 'id,name'])
+            CompletableFuture<Page> invalid = coalescer.fetchObject(client, 'missing', Page, [fields: 'id,name'])
+            CompletableFuture<User> second = coalescer.fetchObject(client, '2', User, [fields: 'id,name'])
+            CompletableFuture.allOf(first, invalid, second).exceptionally { null }.join()
+            invalid.get()
+        then:
+            1 * client.fetchObjects(['1', 'missing', '2'], JsonObject, _) >> { throw doesNotExist() }
+            1 * client.fetchObject('1', JsonObject, _) >> { String id, Class type, Parameter[] params ->
+                assert params*.name == ['fields']
+                return toJson([id]).get(id)
+            }
+            1 * client.fetchObject('missing', JsonObject, _) >> { throw doesNotExist() }
+            1 * client.fetchObject('2', JsonObject, _) >> { String id, Class type, Parameter[] params -> toJson([id]).get(id) }
+
+            ExecutionException e = thrown(ExecutionException)
+            e.cause instanceof FacebookOAuthException
+            first.get().name == 'Name 1'
+            second.get().name == 'Name 2'
+    }
+
+    void 'graph failure of a single id is not fetched again'() {
+        when:
+            CompletableFuture<Page> invalid = coalescer.fetchObject(client, 'missing', Page, [:])
+            CompletableFuture<Page> duplicate = coalescer.fetchObject(client, 'missing', Page, [:])
+            coalescer.flush()
+            invalid.get()
+        then:
+            1 * client.fetchObjects(['missing'], JsonObject, _) >> { throw doesNotExist() }
+            0 * client.fetchObject(*_)
+
+            ExecutionException e = thrown(ExecutionException)
+            e.cause instanceof FacebookOAuthException
+            duplicate.completedExceptionally
+    }
+
+    private static FacebookOAuthException doesNotExist() {
+        return new FacebookOAuthException('OAuthException', '(#100) Some of the aliases you requested do not exist: missing', 100, null, 404, null, null, null, null)
+    }
+
+    private static JsonObject toJson(List<String> ids) {
+        JsonObject object = new JsonObject()
+        ids.each { object.add(it, new JsonObject().add('id', it).add('name', "Name $it".toString())) }
+        return object
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+
+@CompileDynamic
+class FacebookUsageTrackerSpec extends Specification {
+
+    Instant now = Instant.parse('2026-01-01T00:00:00Z')
+    Clock clock = Mock {
+        instant() >> { now }
+    }
+
+    List<FacebookUsage> reported = []
+    FacebookUsageTracker tracker = new FacebookUsageTracker([reported.&add as FacebookUsageListener], Duration.ofMinutes(5), clock)
+
+    void 'application usage is tracked'() {
+        when:
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/me', headers(
+                'X-App-Usage': '{"call_count":28,"total_time":25,"total_cputime":42}'
+            ))
+        then:
+            reported.size() == 1
+
+            FacebookUsage usage = tracker.getApplicationUsage(1L).get()
+            usage.type == FacebookUsage.Type.APPLICATION
+            usage.callCount == 28
+            usage.totalTime == 25
+            usage.totalCputime == 42
+            usage.percentage == 42
+            usage.timeToRegainAccess == Duration.ZERO
+
+            tracker.getMaxPercentage(1L) == 42
+            tracker.getMaxPercentage(2L) == 0
+            !tracker.getApplicationUsage(2L).present
+    }
+
+    void 'failing listener does not prevent the usage from being tracked'() {
+        given:
+            FacebookUsageListener failing = { throw new IllegalStateException('Registry closed') } as FacebookUsageListener
+            tracker = new FacebookUsageTracker([failing, reported.&add as FacebookUsageListener], Duration.ofMinutes(5), clock)
+        when:
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/me', headers('X-App-Usage': '{"call_count":28}'))
+        then:
+            noExceptionThrown()
+            reported.size() == 1
+            tracker.getMaxPercentage(1L) == 28
+    }
+
+    void 'business use case usage is tracked'() {
+        when:
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/me', headers(
+                'x-business-use-case-usage': '''{
+                    "112130216863063":[
+                        {"type":"pages","call_count":100,"total_cputime":25,"total_time":25,"estimated_time_to_regain_access":19},
+                        {"type":"instagram","call_count":10,"total_cputime":5,"total_time":5,"estimated_time_to_regain_access":0}
+                    ]
+                }'''
+            ))
+        then:
+            reported.size() == 2
+
+            List<FacebookUsage> usages = tracker.getBusinessUsage('112130216863063')
+            usages.size() == 2
+            usages.find { it.useCase == 'pages' }.timeToRegainAccess == Duration.ofMinutes(19)
+            usages.find { it.useCase == 'instagram' }.percentage == 10
+
+            tracker.getMaxUsage(1L).get().useCase == 'pages'
+            tracker.getMaxPercentage(1L) == 100
+    }
+
+    void 'ad account usage is tracked for ad account endpoints'() {
+        when:
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/act_1234/campaigns', headers(
+                'X-Ad-Account-Usage': '{"acc_id_util_pct":9.67,"reset_time_duration":30,"ads_api_access_tier":"standard_access"}'
+            ))
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/me', headers(
+                'X-Ad-Account-Usage': '{"acc_id_util_pct":50}'
+            ))
+        then:
+            reported.size() == 1
+
+            FacebookUsage usage = tracker.getAdAccountUsage('act_1234').first()
+            usage.id == '1234'
+            usage.percentage == 10
+            usage.timeToRegainAccess == Duration.ofSeconds(30)
+    }
+
+    void 'usage limiting the request depends on the URL'() {
+        given:
+            tracker.update(1L, null, headers('X-App-Usage': '{"call_count":20}'))
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/112130216863063/feed', headers(
+                'X-Business-Use-Case-Usage': '{"112130216863063":[{"type":"pages","call_count":60}]}'
+            ))
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/act_1234/campaigns', headers(
+                'X-Ad-Account-Usage': '{"acc_id_util_pct":90}'
+            ))
+        expect:
+            tracker.getMaxUsage(1L, url).get().percentage == expected
+        where:
+            url                                                                  | expected
+            null                                                                 | 20
+            'https://graph.facebook.com/v23.0/me'                                | 20
+            'https://graph.facebook.com/v23.0/112130216863063/feed?limit=10'     | 60
+            'https://graph.facebook.com/v23.0/999/feed'                          | 20
+            'https://graph.facebook.com/v23.0/act_1234/campaigns'                | 90
+            'https://graph.facebook.com/v23.0/act_5678/campaigns'                | 20
+    }
+
+    void 'stale usage is ignored'() {
+        given:
+            tracker.update(1L, null, headers('X-App-Usage': '{"call_count":90}'))
+        when:
+            now = now.plus(Duration.ofMinutes(5))
+        then:
+            tracker.getMaxPercentage(1L) == 0
+            tracker.getApplicationUsage(1L).present
+            tracker.usages.size() == 1
+    }
+
+    void 'invalid headers are ignored'() {
+        when:
+            tracker.update(1L, null, headers('X-App-Usage': 'not json', 'X-Business-Use-Case-Usage': '[]'))
+            tracker.update(1L, null, headers([:]))
+        then:
+            reported.empty
+            tracker.usages.empty
+    }
+
+    private static Closure<String> headers(Map<String, String> headers) {
+        Map<String, String> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER)
+        caseInsensitive.putAll(headers)
+        return { String name -> caseInsensitive[name] }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.WebRequestor
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import groovy.transform.CompileDynamic
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@CompileDynamic
+class HttpClientWebRequestorSpec extends Specification {
+
+    HttpServer server = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+    @AutoCleanup HttpClientWebRequestor requestor = HttpClientWebRequestor.create(new FacebookHttpConfiguration())
+
+    List<Map<String, String>> received = []
+
+    void setup() {
+        server.createContext('/') { HttpExchange exchange ->
+            received << [
+                    method       : exchange.requestMethod,
+                    uri          : exchange.requestURI.toString(),
+                    authorization: exchange.requestHeaders.getFirst('Authorization'),
+                    contentType  : exchange.requestHeaders.getFirst('Content-Type'),
+                    body         : exchange.requestBody.getText(StandardCharsets.UTF_8.name()),
+            ]
+            byte[] response = '{"id":"123"}'.getBytes(StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(exchange.requestURI.path == '/missing' ? 404 : 200, response.length)
+            exchange.responseBody.withStream { it.write(response) }
+        }
+        server.start()
+    }
+
+    void cleanup() {
+        server.stop(0)
+    }
+
+    void 'executes get request'() {
+        when:
+            WebRequestor.Response response = requestor.executeGet(new WebRequestor.Request(url('/me'), 'token', 'fields=id'))
+        then:
+            response.statusCode == 200
+            response.body == '{"id":"123"}'
+            received.size() == 1
+            received[0].method == 'GET'
+            received[0].uri == '/me?fields=id'
+            received[0].authorization == 'Bearer token'
+    }
+
+    void 'executes post request with form parameters'() {
+        when:
+            WebRequestor.Response response = requestor.executePost(new WebRequestor.Request(url('/me/feed'), null, 'message=Hello'))
+        then:
+            response.statusCode == 200
+            received[0].method == 'POST'
+            received[0].uri == '/me/feed'
+            received[0].contentType == 'application/x-www-form-urlencoded'
+            received[0].body == 'message=Hello'
+            !received[0].authorization
+    }
+
+    void 'executes delete request'() {
+        when:
+            WebRequestor.Response response = requestor.executeDelete(new WebRequestor.Request(url('/123'), null, 'method=delete'))
+        then:
+            response.statusCode == 200
+            received[0].method == 'DELETE'
+            received[0].uri == '/123?method=delete'
+    }
+
+    void 'error responses are returned to restfb'() {
+        when:
+            WebRequestor.Response response = requestor.executeGet(new WebRequestor.Request(url('/missing'), null))
+        then:
+            response.statusCode == 404
+            response.body == '{"id":"123"}'
+    }
+
+    private String url(String path) {
+        return "http://localhost:$server.address.port$path"
+    }
+
+}
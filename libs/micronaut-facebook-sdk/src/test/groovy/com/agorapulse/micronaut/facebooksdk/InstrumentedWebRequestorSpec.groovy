@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.DefaultFacebookClient
+import com.restfb.DefaultJsonMapper
+import com.restfb.Version
+import com.restfb.WebRequestor
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+@CompileDynamic
+class InstrumentedWebRequestorSpec extends Specification {
+
+    List<FacebookRequestEvent> events = []
+    WebRequestor delegate = Mock()
+    InstrumentedWebRequestor requestor = new InstrumentedWebRequestor(delegate, 1234L, Version.VERSION_23_0, [events.&add as FacebookRequestListener])
+
+    void 'successful request is reported'() {
+        when:
+            Page page = new DefaultFacebookClient('token', 'secret', requestor, new DefaultJsonMapper(), Version.VERSION_23_0)
+                .fetchObject('1234567890', Page)
+        then:
+            page.id == '1234567890'
+
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{"id":"1234567890"}')
+
+            events.size() == 1
+            events[0].applicationId == 1234L
+            events[0].method == 'GET'
+            events[0].endpoint == '/{id}'
+            events[0].apiVersion == 'v23.0'
+            events[0].statusCode == 200
+            events[0].responseSize == 19
+            events[0].successful
+            events[0].errorCode == null
+            !events[0].duration.negative
+    }
+
+    void 'error code and subcode are reported'() {
+        when:
+            new DefaultFacebookClient('token', 'secret', requestor, new DefaultJsonMapper(), Version.VERSION_23_0)
+                .fetchObject('me', Page)
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(
+                400,
+                '{"error":{"message":"Error validating access token","type":"OAuthException","code":190,"error_subcode":463}}'
+            )
+
+            thrown(FacebookOAuthException)
+
+            events.size() == 1
+            events[0].endpoint == '/me'
+            events[0].statusCode == 400
+            events[0].errorCode == 190
+            events[0].errorSubcode == 463
+            !events[0].successful
+    }
+
+    void 'exception is reported'() {
+        given:
+            IOException exception = new IOException('Connection reset')
+        when:
+            requestor.executePost(new WebRequestor.Request('https://graph.facebook.com/v23.0/me/feed', null, 'message=Hello'))
+        then:
+            1 * delegate.executePost(_) >> { throw exception }
+
+            IOException e = thrown(IOException)
+            e.is(exception)
+
+            events.size() == 1
+            events[0].method == 'POST'
+            events[0].endpoint == '/me/feed'
+            events[0].statusCode == -1
+            events[0].exception.is(exception)
+            !events[0].successful
+    }
+
+    void 'failing listener does not change the outcome of the request'() {
+        given:
+            FacebookRequestListener failing = { throw new IllegalStateException('Registry closed') } as FacebookRequestListener
+            IOException exception = new IOException('Connection reset')
+            requestor = new InstrumentedWebRequestor(delegate, 1234L, Version.VERSION_23_0, [failing, events.&add as FacebookRequestListener])
+        when:
+            WebRequestor.Response response = requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{"id":"1"}')
+
+            response.statusCode == 200
+            events.size() == 1
+
+        when:
+            requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> { throw exception }
+
+            IOException e = thrown(IOException)
+            e.is(exception)
+            events.size() == 2
+    }
+
+    void 'endpoint of #url is #endpoint'() {
+        expect:
+            InstrumentedWebRequestor.endpoint(url) == endpoint
+        where:
+            url                                                          | endpoint
+            'https://graph.facebook.com/v23.0/'                          | '/'
+            'https://graph.facebook.com/v23.0'                           | '/'
+            'https://graph.facebook.com/me'                              | '/me'
+            'https://graph.facebook.com/v23.0/123/feed?limit=10'         | '/{id}/feed'
+            'https://graph.facebook.com/v23.0/123_456/comments'          | '/{id}/comments'
+            'https://graph.facebook.com/v23.0/act_123/campaigns'         | '/act_{id}/campaigns'
+            'https://graph-video.facebook.com/v23.0/123/videos'          | '/{id}/videos'
+            'https://graph.facebook.com/oauth/access_token?client_id=1' | '/oauth/access_token'
+            'https://graph.facebook.com/v23.0/act_/v1'                   | '/{id}/v1'
+            'https://graph.facebook.com/v23.0/cocacola/feed'             | '/{id}/feed'
+            'https://graph.facebook.com/v23.0/cocacola'                  | '/{id}'
+            'https://graph.facebook.com/v23.0/me/accounts'               | '/me/accounts'
+            'https://graph.facebook.com/v23.0/debug_token?input_token=1' | '/debug_token'
+            'https://graph.facebook.com/v23.0/123/likes/456'             | '/{id}/likes/{id}'
+            null                                                         | '/'
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import groovy.transform.CompileDynamic
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.event.BeanCreatedEvent
+import spock.lang.Specification
+
+@CompileDynamic
+class MicrometerFacebookClientCacheBinderSpec extends Specification {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry()
+    MicrometerFacebookClientCacheBinder binder = new MicrometerFacebookClientCacheBinder(registry)
+
+    void 'client cache statistics are exposed'() {
+        given:
+            FacebookApplicationConfiguration configuration = new FacebookApplicationConfiguration(id: 1234L, secret: 'secret', clientCacheSize: 1)
+            DefaultFacebookApplication application = new DefaultFacebookApplication(configuration)
+        when:
+            FacebookApplication bound = binder.onCreated(Mock(BeanCreatedEvent) { getBean() >> application })
+            application.createClient('one')
+            application.createClient('one')
+            application.createClient('two')
+        then:
+            bound.is(application)
+            registry.get(MicrometerFacebookClientCacheBinder.SIZE).tags('app', '1234').gauge().value() == 1
+            registry.get(MicrometerFacebookClientCacheBinder.GETS).tags('app', '1234', 'result', 'hit').functionCounter().count() == 1
+            registry.get(MicrometerFacebookClientCacheBinder.GETS).tags('app', '1234', 'result', 'miss').functionCounter().count() == 2
+            registry.get(MicrometerFacebookClientCacheBinder.EVICTIONS).tags('app', '1234').functionCounter().count() == 1
+    }
+
+    void 'applications without client cache are ignored'() {
+        given:
+            DefaultFacebookApplication application = new DefaultFacebookApplication(new FacebookApplicationConfiguration(secret: 'secret'))
+        when:
+            binder.onCreated(Mock(BeanCreatedEvent) { getBean() >> application })
+        then:
+            registry.meters.empty
+    }
+
+    void 'client cache statistics of the named applications are exposed'() {
+        given:
+            NamedFacebookApplicationConfiguration configuration = new NamedFacebookApplicationConfiguration('other')
+            configuration.id = 5678L
+            configuration.secret = 'secret'
+            configuration.clientCacheSize = 10
+            NamedFacebookApplication application = new NamedFacebookApplication(configuration)
+            MicrometerNamedFacebookClientCacheBinder namedBinder = new MicrometerNamedFacebookClientCacheBinder(binder)
+        when:
+            NamedFacebookApplication bound = namedBinder.onCreated(Mock(BeanCreatedEvent) { getBean() >> application })
+            application.createClient('one')
+            application.createClient('one')
+        then:
+            bound.is(application)
+            registry.get(MicrometerFacebookClientCacheBinder.SIZE).tags('app', '5678').gauge().value() == 1
+            registry.get(MicrometerFacebookClientCacheBinder.GETS).tags('app', '5678', 'result', 'hit').functionCounter().count() == 1
+    }
+
+}
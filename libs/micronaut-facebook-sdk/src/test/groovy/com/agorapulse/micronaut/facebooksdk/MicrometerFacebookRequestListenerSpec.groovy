@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Duration
+
+@CompileDynamic
+class MicrometerFacebookRequestListenerSpec extends Specification {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry()
+    MicrometerFacebookRequestListener listener = new MicrometerFacebookRequestListener(registry)
+
+    void 'successful request is recorded'() {
+        when:
+            listener.onRequest(new FacebookRequestEvent(1234L, 'GET', '/{id}/feed', 'v23.0', 200, Duration.ofMillis(120), 2048, null, null, null))
+            listener.onRequest(new FacebookRequestEvent(1234L, 'GET', '/{id}/feed', 'v23.0', 200, Duration.ofMillis(80), 1024, null, null, null))
+        then:
+            registry.get(MicrometerFacebookRequestListener.REQUESTS)
+                .tags('app', '1234', 'method', 'GET', 'endpoint', '/{id}/feed', 'version', 'v23.0', 'status', '200', 'error.code', 'none')
+                .timer()
+                .count() == 2
+            registry.get(MicrometerFacebookRequestListener.RESPONSE_SIZE).summary().totalAmount() == 3072
+            registry.find(MicrometerFacebookRequestListener.ERRORS).counter() == null
+    }
+
+    void 'failed request is recorded'() {
+        when:
+            listener.onRequest(new FacebookRequestEvent(1234L, 'GET', '/me', 'v23.0', 400, Duration.ofMillis(50), 100, 190, 463, null))
+            listener.onRequest(new FacebookRequestEvent(null, 'POST', '/', 'v23.0', -1, Duration.ofMillis(50), 0, null, null, new IOException()))
+        then:
+            registry.get(MicrometerFacebookRequestListener.ERRORS)
+                .tags('app', '1234', 'error.code', '190', 'error.subcode', '463')
+                .counter()
+                .count() == 1
+            registry.get(MicrometerFacebookRequestListener.ERRORS)
+                .tags('app', 'none', 'error.code', 'IOException')
+                .counter()
+                .count() == 1
+            registry.get(MicrometerFacebookRequestListener.REQUESTS).tags('status', 'IO_ERROR').timer().count() == 1
+            registry.find(MicrometerFacebookRequestListener.RESPONSE_SIZE).tags('method', 'POST').summary() == null
+    }
+
+    void 'retries are recorded'() {
+        when:
+            listener.onRetry(new FacebookRetryEvent(FacebookRetryEvent.Type.RETRY, 1234L, 'GET', '/me', 1, Duration.ofMillis(200), '4'))
+            listener.onRetry(new FacebookRetryEvent(FacebookRetryEvent.Type.RECOVERED, 1234L, 'GET', '/me', 2, Duration.ZERO, null))
+        then:
+            registry.get(MicrometerFacebookRequestListener.RETRIES)
+                .tags('app', '1234', 'method', 'GET', 'endpoint', '/me', 'reason', '4')
+                .counter()
+                .count() == 1
+            registry.get(MicrometerFacebookRequestListener.RETRIED).tags('outcome', 'recovered').counter().count() == 1
+            registry.find(MicrometerFacebookRequestListener.RETRIED).tags('outcome', 'exhausted').counter() == null
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+
+@CompileDynamic
+class MicrometerFacebookUsageListenerSpec extends Specification {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry()
+    FacebookUsageTracker tracker = new FacebookUsageTracker([new MicrometerFacebookUsageListener(registry)])
+
+    void 'usage is exposed as gauge'() {
+        when:
+            tracker.update(1234L, null) { String name -> name == FacebookUsageTracker.APP_USAGE_HEADER ? '{"call_count":42}' : null }
+        then:
+            registry.get(MicrometerFacebookUsageListener.USAGE).tags('app', '1234', 'type', 'APPLICATION').gauge().value() == 42
+
+        when:
+            tracker.update(1234L, null) { String name -> name == FacebookUsageTracker.APP_USAGE_HEADER ? '{"total_time":64}' : null }
+        then:
+            registry.get(MicrometerFacebookUsageListener.USAGE).tags('app', '1234', 'type', 'APPLICATION').gauge().value() == 64
+            registry.find(MicrometerFacebookUsageListener.USAGE).gauges().size() == 1
+    }
+
+}
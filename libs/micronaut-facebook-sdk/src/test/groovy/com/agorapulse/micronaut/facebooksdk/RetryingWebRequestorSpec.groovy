@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.DefaultFacebookClient
+import com.restfb.DefaultJsonMapper
+import com.restfb.Version
+import com.restfb.WebRequestor
+import com.restfb.exception.FacebookOAuthException
+import com.restfb.types.Page
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.time.Duration
+
+@CompileDynamic
+class RetryingWebRequestorSpec extends Specification {
+
+    private static final String RATE_LIMITED = '{"error":{"message":"Application request limit reached","type":"OAuthException","code":4}}'
+    private static final String INVALID_TOKEN = '{"error":{"message":"Error validating access token","type":"OAuthException","code":190}}'
+
+    List<FacebookRetryEvent> events = []
+    WebRequestor delegate = Mock()
+    FacebookRequestListener listener = new FacebookRequestListener() {
+        @Override
+        void onRequest(FacebookRequestEvent event) { }
+
+        @Override
+        void onRetry(FacebookRetryEvent event) {
+            events << event
+        }
+    }
+
+    void 'transient errors are retried'() {
+        given:
+            RetryingWebRequestor requestor = requestor(3, false)
+        when:
+            Page page = new DefaultFacebookClient('token', 'secret', requestor, new DefaultJsonMapper(), Version.VERSION_23_0)
+                .fetchObject('1234567890', Page)
+        then:
+            page.id == '1234567890'
+
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(400, RATE_LIMITED)
+            1 * delegate.executeGet(_) >> { throw new SocketTimeoutException('Read timed out') }
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{"id":"1234567890"}')
+
+            events*.type == [FacebookRetryEvent.Type.RETRY, FacebookRetryEvent.Type.RETRY, FacebookRetryEvent.Type.RECOVERED]
+            events*.reason == ['4', 'SocketTimeoutException', null]
+            events*.attempt == [1, 2, 3]
+            events[0].applicationId == 1234L
+            events[0].endpoint == '/{id}'
+            events[0].delay == Duration.ofMillis(1)
+            events[1].delay == Duration.ofMillis(2)
+    }
+
+    void 'last failure is returned when the attempts are exhausted'() {
+        given:
+            RetryingWebRequestor requestor = requestor(2, false)
+        when:
+            new DefaultFacebookClient('token', 'secret', requestor, new DefaultJsonMapper(), Version.VERSION_23_0)
+                .fetchObject('me', Page)
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(503, 'Service Unavailable')
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(400, RATE_LIMITED)
+
+            FacebookOAuthException e = thrown(FacebookOAuthException)
+            e.errorCode == 4
+
+            events*.type == [FacebookRetryEvent.Type.RETRY, FacebookRetryEvent.Type.EXHAUSTED]
+            events*.reason == ['HTTP_503', '4']
+    }
+
+    void 'permanent errors are not retried'() {
+        given:
+            RetryingWebRequestor requestor = requestor(3, false)
+        when:
+            new DefaultFacebookClient('token', 'secret', requestor, new DefaultJsonMapper(), Version.VERSION_23_0)
+                .fetchObject('me', Page)
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(400, INVALID_TOKEN)
+
+            FacebookOAuthException e = thrown(FacebookOAuthException)
+            e.errorCode == 190
+
+            events.empty
+    }
+
+    void 'post requests are only retried if enabled'() {
+        given:
+            WebRequestor.Request request = new WebRequestor.Request('https://graph.facebook.com/v23.0/me/feed', null, 'message=Hello')
+        when:
+            WebRequestor.Response response = requestor(3, retryPost).executePost(request)
+        then:
+            1 * delegate.executePost(request) >> new WebRequestor.Response(500, '{"error":{"code":2}}')
+            (retryPost ? 1 : 0) * delegate.executePost(request) >> new WebRequestor.Response(200, '{"id":"1"}')
+
+            response.statusCode == expected
+        where:
+            retryPost | expected
+            false     | 500
+            true      | 200
+    }
+
+    void 'interrupted request is not retried'() {
+        when:
+            requestor(3, false).executeDelete(new WebRequestor.Request('https://graph.facebook.com/v23.0/123', null))
+        then:
+            1 * delegate.executeDelete(_) >> { throw new InterruptedIOException() }
+
+            thrown(InterruptedIOException)
+            events.empty
+    }
+
+    void 'interrupted wait does not reveal the access token'() {
+        when:
+            Thread.currentThread().interrupt()
+            requestor(3, false).executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/123?access_token=secret-token&appsecret_proof=proof', null))
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(503, 'Service Unavailable')
+
+            InterruptedIOException e = thrown(InterruptedIOException)
+            e.message == 'Interrupted while waiting to retry the request to /{id}'
+            Thread.interrupted()
+    }
+
+    void 'failing listener does not change the outcome of the request'() {
+        given:
+            FacebookRequestListener failing = new FacebookRequestListener() {
+                @Override
+                void onRequest(FacebookRequestEvent event) { }
+
+                @Override
+                void onRetry(FacebookRetryEvent event) {
+                    throw new IllegalStateException('Registry closed')
+                }
+            }
+            FacebookRetryPolicy policy = new FacebookRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 2, 0, FacebookRetryPolicy.DEFAULT_RETRYABLE_CODES, false)
+            RetryingWebRequestor requestor = new RetryingWebRequestor(delegate, 1234L, policy, [failing, listener])
+        when:
+            WebRequestor.Response response = requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(503, 'Service Unavailable')
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{"id":"1"}')
+
+            response.statusCode == 200
+            events*.type == [FacebookRetryEvent.Type.RETRY, FacebookRetryEvent.Type.RECOVERED]
+    }
+
+    void 'delay of retry #retry is between #min and #max ms'() {
+        given:
+            FacebookRetryPolicy policy = new FacebookRetryPolicy(5, Duration.ofMillis(100), Duration.ofMillis(300), 2, 0.5, [4], false)
+        expect:
+            policy.getDelay(retry, 0) == Duration.ofMillis(max)
+            policy.getDelay(retry, 1) == Duration.ofMillis(min)
+            policy.getDelay(retry) >= Duration.ofMillis(min)
+            policy.getDelay(retry) <= Duration.ofMillis(max)
+        where:
+            retry | min | max
+            1     | 50  | 100
+            2     | 100 | 200
+            3     | 150 | 300
+            4     | 150 | 300
+    }
+
+    void 'policy is created from the configuration'() {
+        given:
+            FacebookApplicationConfiguration configuration = new FacebookApplicationConfiguration(
+                retryMaxAttempts: 4,
+                retryCodes: [1, 2],
+                retryPost: true
+            )
+        when:
+            FacebookRetryPolicy policy = FacebookRetryPolicy.of(configuration)
+        then:
+            policy.maxAttempts == 4
+            policy.retryableCodes == [1, 2] as Set
+            policy.isRetryable('POST')
+            policy.initialDelay == FacebookRetryPolicy.DEFAULT_INITIAL_DELAY
+            !FacebookRetryPolicy.of(new FacebookApplicationConfiguration()).isRetryable('GET')
+    }
+
+    private RetryingWebRequestor requestor(int maxAttempts, boolean retryPost) {
+        FacebookRetryPolicy policy = new FacebookRetryPolicy(
+            maxAttempts,
+            Duration.ofMillis(1),
+            Duration.ofMillis(10),
+            2,
+            0,
+            FacebookRetryPolicy.DEFAULT_RETRYABLE_CODES,
+            retryPost
+        )
+        return new RetryingWebRequestor(delegate, 1234L, policy, [listener])
+    }
+
+}
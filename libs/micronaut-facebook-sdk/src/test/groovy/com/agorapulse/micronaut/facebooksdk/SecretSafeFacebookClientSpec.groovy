@@ -22,6 +22,23 @@ class SecretSafeFacebookClientSpec extends Specification {
             client.obtainAppSecretProof('token', 'secret') == 'proof'
     }
 
+    void 'clients created with another access token are wrapped as well'() {
+        given:
+            FacebookClient other = Mock()
+            delegate.createClientWithAccessToken('other') >> other
+            other.fetchObject('123', Object) >> { throw createException('Other error').withInfoData('GET', 'https://graph.facebook.com/123', "access_token=$SECRET_TOKEN", null, 1L) }
+        when:
+            FacebookClient created = client.createClientWithAccessToken('other')
+        then:
+            created instanceof SecretSafeFacebookClient
+            SecretSafeFacebookClient.wrap(created).is(created)
+        when:
+            created.fetchObject('123', Object)
+        then:
+            FacebookException thrown = thrown(FacebookException)
+            thrown.infoData.isEmpty()
+    }
+
     void 'strips request metadata from a thrown facebook exception so secrets are not leaked'() {
         given:
             FacebookException exception = createException('Some Facebook error')
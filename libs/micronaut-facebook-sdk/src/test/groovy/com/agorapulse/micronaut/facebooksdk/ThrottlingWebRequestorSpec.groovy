@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2019-2026 Agorapulse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.agorapulse.micronaut.facebooksdk
+
+import com.restfb.WebRequestor
+import com.sun.net.httpserver.HttpServer
+import groovy.transform.CompileDynamic
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+@CompileDynamic
+class ThrottlingWebRequestorSpec extends Specification {
+
+    FacebookUsageTracker tracker = new FacebookUsageTracker()
+    WebRequestor delegate = Mock()
+
+    void 'usage is read from the response headers'() {
+        given:
+            ThrottlingWebRequestor requestor = new ThrottlingWebRequestor(delegate, 1L, tracker)
+        when:
+            requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> new FacebookResponse(200, '{}', ['x-app-usage': ['{"call_count":42}']])
+
+            tracker.getMaxPercentage(1L) == 42
+            requestor.delay == Duration.ZERO
+    }
+
+    void 'delay for #percentage% of the business usage is #expected'() {
+        given:
+            ThrottlingWebRequestor requestor = new ThrottlingWebRequestor(delegate, 1L, tracker, 80, Duration.ofSeconds(21))
+            tracker.update(1L, null) { String name ->
+                name == FacebookUsageTracker.BUSINESS_USE_CASE_USAGE_HEADER
+                    ? """{"1":[{"type":"pages","call_count":$percentage,"estimated_time_to_regain_access":$regain}]}""".toString()
+                    : null
+            }
+        expect:
+            requestor.getDelay('https://graph.facebook.com/v23.0/1/feed') == expected
+            requestor.getDelay('https://graph.facebook.com/v23.0/2/feed') == Duration.ZERO
+        where:
+            percentage | regain | expected
+            79         | 0      | Duration.ZERO
+            80         | 0      | Duration.ofSeconds(1)
+            90         | 0      | Duration.ofSeconds(11)
+            99         | 0      | Duration.ofSeconds(20)
+            100        | 0      | Duration.ofSeconds(21)
+            100        | 1      | Duration.ofSeconds(21)
+            120        | 0      | Duration.ofSeconds(21)
+    }
+
+    void 'requests are delayed'() {
+        given:
+            ThrottlingWebRequestor requestor = new ThrottlingWebRequestor(delegate, 1L, tracker, 50, Duration.ofMillis(200))
+            tracker.update(1L, null) { String name -> name == FacebookUsageTracker.APP_USAGE_HEADER ? '{"call_count":100}' : null }
+        when:
+            long start = System.nanoTime()
+            requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{}')
+            Duration.ofNanos(System.nanoTime() - start) >= Duration.ofMillis(200)
+    }
+
+    void 'saturated ad account does not delay other requests'() {
+        given:
+            ThrottlingWebRequestor requestor = new ThrottlingWebRequestor(delegate, 1L, tracker, 50, Duration.ofSeconds(10))
+            tracker.update(1L, 'https://graph.facebook.com/v23.0/act_1234/campaigns') { String name ->
+                name == FacebookUsageTracker.AD_ACCOUNT_USAGE_HEADER ? '{"acc_id_util_pct":100,"reset_time_duration":5}' : null
+            }
+        when:
+            long start = System.nanoTime()
+            requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/me', null))
+        then:
+            1 * delegate.executeGet(_) >> new WebRequestor.Response(200, '{}')
+            Duration.ofNanos(System.nanoTime() - start) < Duration.ofSeconds(5)
+
+            requestor.delay == Duration.ZERO
+            requestor.getDelay('https://graph.facebook.com/v23.0/act_5678/campaigns') == Duration.ZERO
+            requestor.getDelay('https://graph.facebook.com/v23.0/act_1234/campaigns') == Duration.ofSeconds(5)
+    }
+
+    void 'interrupted request does not reveal the access token'() {
+        given:
+            ThrottlingWebRequestor requestor = new ThrottlingWebRequestor(delegate, 1L, tracker, 50, Duration.ofSeconds(10))
+            tracker.update(1L, null) { String name -> name == FacebookUsageTracker.APP_USAGE_HEADER ? '{"call_count":100}' : null }
+        when:
+            Thread.currentThread().interrupt()
+            requestor.executeGet(new WebRequestor.Request('https://graph.facebook.com/v23.0/123/feed?access_token=secret-token&appsecret_proof=proof', null))
+        then:
+            0 * delegate.executeGet(_)
+
+            InterruptedIOException e = thrown(InterruptedIOException)
+            e.message == 'Interrupted while throttling the request to /{id}/feed'
+            Thread.interrupted()
+    }
+
+    void 'header aware requestor returns the headers'() {
+        given:
+            HttpServer server = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+            server.createContext('/') { exchange ->
+                byte[] body = '{"id":"123"}'.getBytes(StandardCharsets.UTF_8)
+                exchange.responseHeaders.add('X-App-Usage', '{"call_count":7}')
+                exchange.sendResponseHeaders(200, body.length)
+                exchange.responseBody.withStream { it.write(body) }
+            }
+            server.start()
+        when:
+            WebRequestor.Response response = new HeaderAwareWebRequestor().executeGet(
+                new WebRequestor.Request("http://localhost:$server.address.port/me", null)
+            )
+        then:
+            response instanceof FacebookResponse
+            response.body == '{"id":"123"}'
+            response.getHeader('x-app-usage').get() == '{"call_count":7}'
+        cleanup:
+            server.stop(0)
+    }
+
+}